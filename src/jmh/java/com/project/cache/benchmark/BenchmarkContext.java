@@ -0,0 +1,64 @@
+package com.project.cache.benchmark;
+
+import com.project.cache.CacheApplication;
+import com.project.cache.model.Student;
+import com.project.cache.model.dto.StudentDTO;
+import com.project.cache.services.StudentService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application without the web layer against an in-memory H2 database and the embedded
+ * Infinispan configuration, and seeds it with students.
+ */
+final class BenchmarkContext {
+
+    private static final int SEED_BATCH = 500;
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String strategy, String... extraArgs) {
+        return startOn("bench-" + UUID.randomUUID(), strategy, extraArgs);
+    }
+
+    // Contexts started with the same database name share one in-memory database, like instances of one deployment
+    static ConfigurableApplicationContext startOn(String database, String strategy, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--app.cache.strategy=" + strategy));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(CacheApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args.toArray(new String[0]));
+    }
+
+    static List<Student> seed(StudentService studentService, int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int from = 0; from < count; from += SEED_BATCH) {
+            List<StudentDTO> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < Math.min(from + SEED_BATCH, count); i++) {
+                batch.add(StudentDTO.builder()
+                        .name("Student " + i)
+                        .email("student" + i + "@bench.local")
+                        .department(i % 2 == 0 ? "Science" : "Arts")
+                        .build());
+            }
+            students.addAll(studentService.createStudents(batch));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.cache.benchmark;
+
+import com.project.cache.helper.CacheHelper;
+import com.project.cache.model.Student;
+import com.project.cache.model.view.StudentView;
+import com.project.cache.services.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw CacheHelperImpl reads and writes against the embedded Infinispan caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class CacheHelperBenchmark {
+
+    @Param({"uniform", "zipfian"})
+    public String distribution;
+
+    @Param({"10000"})
+    public int keyCount;
+
+    @Param({"0.9"})
+    public double readRatio;
+
+    private ConfigurableApplicationContext context;
+    private CacheHelper cacheHelper;
+    private Student[] students;
+    private KeyChooser keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("cacheAside");
+        List<Student> seeded = BenchmarkContext.seed(context.getBean(StudentService.class), keyCount);
+        students = seeded.toArray(new Student[0]);
+        cacheHelper = context.getBean(CacheHelper.class);
+        keys = KeyChooser.of(distribution, keyCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StudentView read() {
+        return cacheHelper.getStudentFromCacheById(students[keys.next()].getId());
+    }
+
+    @Benchmark
+    public void write() {
+        cacheHelper.updateStudentInCache(students[keys.next()]);
+    }
+
+    @Benchmark
+    public Object mixed() {
+        Student student = students[keys.next()];
+        if (ThreadLocalRandom.current().nextDouble() < readRatio) {
+            return cacheHelper.getStudentFromCacheById(student.getId());
+        }
+        cacheHelper.updateStudentInCache(student);
+        return student;
+    }
+}
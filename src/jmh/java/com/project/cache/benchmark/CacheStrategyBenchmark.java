@@ -0,0 +1,87 @@
+package com.project.cache.benchmark;
+
+import com.project.cache.model.Student;
+import com.project.cache.model.dto.StudentDTO;
+import com.project.cache.services.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end save, update, read and delete through StudentService with each configured CacheStrategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class CacheStrategyBenchmark {
+
+    @Param({"cacheAside", "writeThrough", "failFast", "asyncCache", "writeBehind"})
+    public String strategy;
+
+    @Param({"uniform", "zipfian"})
+    public String distribution;
+
+    @Param({"1000"})
+    public int keyCount;
+
+    @Param({"0.9", "0.5"})
+    public double readRatio;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private Long[] ids;
+    private KeyChooser keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(strategy);
+        studentService = context.getBean(StudentService.class);
+        List<Student> seeded = BenchmarkContext.seed(studentService, keyCount);
+        ids = seeded.stream().map(Student::getId).toArray(Long[]::new);
+        keys = KeyChooser.of(distribution, keyCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object mixedReadUpdate() {
+        Long id = ids[keys.next()];
+        if (ThreadLocalRandom.current().nextDouble() < readRatio) {
+            return studentService.findStudentById(id);
+        }
+        StudentDTO dto = StudentDTO.builder().name("Renamed " + ThreadLocalRandom.current().nextInt()).build();
+        return studentService.updateStudent(id, dto);
+    }
+
+    @Benchmark
+    public Student saveAndDelete() {
+        long n = emailSequence.incrementAndGet();
+        Student created = studentService.createStudent(StudentDTO.builder()
+                .name("Transient " + n)
+                .email("transient" + n + "@bench.local")
+                .department("Bench")
+                .build());
+        studentService.deleteStudent(created.getId());
+        return created;
+    }
+}
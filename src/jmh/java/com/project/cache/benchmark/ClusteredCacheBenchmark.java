@@ -0,0 +1,130 @@
+package com.project.cache.benchmark;
+
+import com.project.cache.model.Student;
+import com.project.cache.model.dto.StudentDTO;
+import com.project.cache.model.view.StudentView;
+import com.project.cache.services.StudentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reads and updates spread over several application instances in one JVM, joined over the loopback JGroups
+ * stack and sharing one database. Each iteration also prints cluster RPCs and read fallbacks to the database per
+ * operation; local mode is the baseline of isolated per-instance caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class ClusteredCacheBenchmark {
+
+    @Param({"local", "distributed", "invalidation"})
+    public String mode;
+
+    @Param({"3"})
+    public int nodes;
+
+    @Param({"2"})
+    public int owners;
+
+    @Param({"uniform", "zipfian"})
+    public String distribution;
+
+    @Param({"1000"})
+    public int keyCount;
+
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private final LongAdder operations = new LongAdder();
+    private StudentService[] services;
+    private Long[] ids;
+    private KeyChooser keys;
+    private double rpcsAtStart;
+    private double fallbacksAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String database = "cluster-" + UUID.randomUUID();
+        services = new StudentService[nodes];
+        for (int i = 0; i < nodes; i++) {
+            ConfigurableApplicationContext context = BenchmarkContext.startOn(database, "cacheAside",
+                    "--app.cache.cluster.mode=" + mode,
+                    "--app.cache.cluster.name=" + database,
+                    "--app.cache.cluster.owners=" + owners,
+                    "--app.cache.cluster.stack=jgroups-loopback.xml",
+                    "--app.cache.warmup.enabled=false");
+            contexts.add(context);
+            services[i] = context.getBean(StudentService.class);
+        }
+        List<Student> seeded = BenchmarkContext.seed(services[0], keyCount);
+        ids = seeded.stream().map(Student::getId).toArray(Long[]::new);
+        keys = KeyChooser.of(distribution, keyCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+        contexts.clear();
+    }
+
+    @Setup(Level.Iteration)
+    public void startCounting() {
+        operations.reset();
+        rpcsAtStart = sum("infinispan.cache.rpcs");
+        fallbacksAtStart = sum("cache.db.fallback");
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPerOperation() {
+        long ops = Math.max(1, operations.sum());
+        System.out.printf("%n%s: %.3f cluster RPCs/op, %.3f database fallbacks/op over %d ops%n", mode,
+                (sum("infinispan.cache.rpcs") - rpcsAtStart) / ops, (sum("cache.db.fallback") - fallbacksAtStart) / ops, ops);
+    }
+
+    @Benchmark
+    public StudentView read() {
+        operations.increment();
+        return anyNode().findStudentById(ids[keys.next()]);
+    }
+
+    @Benchmark
+    public Student update() {
+        operations.increment();
+        StudentDTO dto = StudentDTO.builder().name("Renamed " + ThreadLocalRandom.current().nextInt()).build();
+        return anyNode().updateStudent(ids[keys.next()], dto);
+    }
+
+    // Behind a load balancer consecutive requests land on any instance
+    private StudentService anyNode() {
+        return services[ThreadLocalRandom.current().nextInt(nodes)];
+    }
+
+    private double sum(String counterName) {
+        double total = 0;
+        for (ConfigurableApplicationContext context : contexts) {
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            total += registry.find(counterName).functionCounters().stream().mapToDouble(FunctionCounter::count).sum();
+            total += registry.find(counterName).counters().stream().mapToDouble(Counter::count).sum();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.cache.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks key indexes either uniformly or with a Zipfian skew, where a few hot keys take most of the traffic.
+ */
+final class KeyChooser {
+
+    private static final double ZIPF_EXPONENT = 0.99;
+
+    private final int keyCount;
+    private final double[] cumulative;
+
+    private KeyChooser(int keyCount, double[] cumulative) {
+        this.keyCount = keyCount;
+        this.cumulative = cumulative;
+    }
+
+    static KeyChooser of(String distribution, int keyCount) {
+        if ("uniform".equals(distribution)) {
+            return new KeyChooser(keyCount, null);
+        }
+        if (!"zipfian".equals(distribution)) {
+            throw new IllegalArgumentException("Unknown key distribution: " + distribution);
+        }
+        double[] cumulative = new double[keyCount];
+        double sum = 0;
+        for (int rank = 0; rank < keyCount; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < keyCount; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return new KeyChooser(keyCount, cumulative);
+    }
+
+    int next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (cumulative == null) {
+            return random.nextInt(keyCount);
+        }
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, keyCount - 1);
+    }
+}
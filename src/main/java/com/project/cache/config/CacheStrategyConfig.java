@@ -28,6 +28,7 @@ public class CacheStrategyConfig {
         try {
             selectedStrategy = strategyFactory.getStrategy(configuredStrategy);
             if (!selectedStrategy.isStrategyAvailable()) {
+                log.warn("Cache strategy {} is not available - falling back to cache-aside", configuredStrategy);
                 selectedStrategy = strategyFactory.getCacheAsideStrategy();
             }
             log.info("Initialized cache strategy: {}", selectedStrategy.getStrategyName());
@@ -35,6 +36,7 @@ public class CacheStrategyConfig {
             selectedStrategy = strategyFactory.getCacheAsideStrategy();
             log.warn("Fallback to cache-aside strategy due to initialization error", e);
         }
+        selectedStrategy.activate();
     }
 
     @Bean
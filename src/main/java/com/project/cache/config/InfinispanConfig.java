@@ -4,12 +4,29 @@ import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import com.project.cache.model.view.StudentView;
 import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.parsing.ConfigurationBuilderHolder;
+import org.infinispan.configuration.parsing.ParserRegistry;
 import org.infinispan.manager.DefaultCacheManager;
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.remoting.transport.jgroups.JGroupsTransport;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.project.cache.helper.Constants.METADATA_CACHE;
+import static com.project.cache.helper.Constants.MISSING_STUDENT_EMAILS_CACHE;
+import static com.project.cache.helper.Constants.MISSING_STUDENT_IDS_CACHE;
+import static com.project.cache.helper.Constants.STUDENTS_CACHE;
+import static com.project.cache.helper.Constants.STUDENT_EMAILS_CACHE;
+import static com.project.cache.helper.Constants.STUDENT_PAGES_CACHE;
 
 @Component
 @Slf4j
@@ -17,22 +34,82 @@ public class InfinispanConfig {
 
     private EmbeddedCacheManager cacheManager;
 
+    // heap keeps live objects bounded by entry count, off-heap stores ProtoStream bytes bounded by size,
+    // persistent is heap backed by a local file store that survives restarts
+    @Value("${app.cache.storage:heap}")
+    private String storageMode;
+
+    @Value("${app.cache.persistence.path:cache-store}")
+    private String persistencePath;
+
+    // local keeps every cache on this node, distributed spreads entries over the cluster with owners copies
+    // each, invalidation keeps a copy per node and drops the other nodes' copies on write
+    @Value("${app.cache.cluster.mode:local}")
+    private String clusterMode;
+
+    @Value("${app.cache.cluster.name:student-cache}")
+    private String clusterName;
+
+    @Value("${app.cache.cluster.owners:2}")
+    private int owners;
+
+    // JGroups stack file on the classpath; jgroups-loopback.xml runs several nodes inside one JVM
+    @Value("${app.cache.cluster.stack:default-configs/default-jgroups-tcp.xml}")
+    private String clusterStack;
+
+    // Student read models keyed by id
+    @Getter
+    private Cache<Long, StudentView> studentCache;
+
+    // Id-range pages of the student list keyed by page index
     @Getter
-    private Cache<String, Object> cache;
+    private Cache<Long, List<StudentView>> studentPageCache;
+
+    // Student ids keyed by email, maintained alongside studentCache
+    @Getter
+    private Cache<String, Long> studentEmailCache;
+
+    // Negative entries for ids and emails confirmed absent in the database, written with short lifespans
+    @Getter
+    private Cache<Long, Boolean> missingStudentIdsCache;
+
+    @Getter
+    private Cache<String, Boolean> missingStudentEmailsCache;
+
+    // Small bookkeeping entries (list markers, heartbeat) kept away from entity eviction
+    @Getter
+    private Cache<String, Object> metadataCache;
+
+    // Work that must complete while the cache is still running, e.g. draining write-behind queues
+    private final Map<String, Runnable> shutdownHooks = new LinkedHashMap<>();
 
     @PostConstruct
     public void init() {
         try {
-            log.info("Initializing Infinispan cache");
+            String configFile = configFileFor(storageMode);
+            log.info("Initializing Infinispan cache with {} storage from {} in {} mode", storageMode, configFile, clusterMode);
 
-            cacheManager = new DefaultCacheManager("infinispan.xml");
+            // Spring properties referenced from the XML, e.g. the file store location
+            Properties properties = new Properties();
+            properties.setProperty("app.cache.persistence.path", persistencePath);
+            ParserRegistry parser = new ParserRegistry(Thread.currentThread().getContextClassLoader(), false, properties);
+            ConfigurationBuilderHolder holder = parser.parseFile(configFile);
+            if (isClustered()) {
+                applyClustering(holder);
+            }
+            cacheManager = new DefaultCacheManager(holder, true);
 
-            cache = cacheManager.getCache("studentsCache");
+            studentCache = cacheManager.getCache(STUDENTS_CACHE);
+            studentPageCache = cacheManager.getCache(STUDENT_PAGES_CACHE);
+            studentEmailCache = cacheManager.getCache(STUDENT_EMAILS_CACHE);
+            metadataCache = cacheManager.getCache(METADATA_CACHE);
+            missingStudentIdsCache = cacheManager.getCache(MISSING_STUDENT_IDS_CACHE);
+            missingStudentEmailsCache = cacheManager.getCache(MISSING_STUDENT_EMAILS_CACHE);
 
-            log.info("Infinispan cache initialized successfully from XML");
+            log.info("Infinispan caches initialized successfully from XML");
 
         } catch (IOException e) {
-            log.error("Failed to load infinispan.xml configuration", e);
+            log.error("Failed to load Infinispan XML configuration", e);
             throw new RuntimeException("Cache initialization failed", e);
         } catch (Exception e) {
             log.error("Failed to initialize Infinispan cache", e);
@@ -40,8 +117,66 @@ public class InfinispanConfig {
         }
     }
 
+    private static String configFileFor(String storageMode) {
+        if ("off-heap".equalsIgnoreCase(storageMode)) {
+            return "infinispan-offheap.xml";
+        }
+        if ("persistent".equalsIgnoreCase(storageMode)) {
+            return "infinispan-persistent.xml";
+        }
+        return "infinispan.xml";
+    }
+
+    // Clustering is layered over whichever storage file was loaded, so every storage mode can run clustered
+    private void applyClustering(ConfigurationBuilderHolder holder) {
+        CacheMode cacheMode = isInvalidationMode() ? CacheMode.INVALIDATION_SYNC : CacheMode.DIST_SYNC;
+        holder.getGlobalConfigurationBuilder().transport()
+                .defaultTransport()
+                .clusterName(clusterName)
+                .addProperty(JGroupsTransport.CONFIGURATION_FILE, clusterStack);
+        holder.getNamedConfigurationBuilders().values().forEach(builder -> {
+            builder.clustering().cacheMode(cacheMode);
+            if (cacheMode.isDistributed()) {
+                builder.clustering().hash().numOwners(owners);
+            }
+        });
+    }
+
+    public boolean isClustered() {
+        return "distributed".equalsIgnoreCase(clusterMode) || isInvalidationMode();
+    }
+
+    // Writes drop the other nodes' copies instead of updating them, so loads must stay on this node
+    public boolean isInvalidationMode() {
+        return "invalidation".equalsIgnoreCase(clusterMode);
+    }
+
+    // Address of this node in the cluster, or "local" when not clustered
+    public String getNodeName() {
+        return cacheManager.getAddress() != null ? cacheManager.getAddress().toString() : "local";
+    }
+
+    // Entries in a persistent cache may predate the current database state and need checking on start
+    public boolean isPersistent() {
+        return "persistent".equalsIgnoreCase(storageMode);
+    }
+
+    public synchronized void registerShutdownHook(String name, Runnable hook) {
+        shutdownHooks.put(name, hook);
+    }
+
     @PreDestroy
     public void destroy() {
+        synchronized (this) {
+            shutdownHooks.forEach((name, hook) -> {
+                try {
+                    log.info("Running cache shutdown hook: {}", name);
+                    hook.run();
+                } catch (Exception e) {
+                    log.error("Cache shutdown hook {} failed", name, e);
+                }
+            });
+        }
         if (cacheManager != null) {
             log.info("Shutting down Infinispan cache");
             cacheManager.stop();
@@ -0,0 +1,32 @@
+package com.project.cache.config.marshaller;
+
+import com.project.cache.helper.function.ExtendMaxId;
+import org.infinispan.protostream.MessageMarshaller;
+
+import java.io.IOException;
+
+/**
+ * Binary form of the max-id update, sent to the owner node in distributed mode.
+ */
+public class ExtendMaxIdMarshaller implements MessageMarshaller<ExtendMaxId> {
+
+    @Override
+    public ExtendMaxId readFrom(ProtoStreamReader reader) throws IOException {
+        return new ExtendMaxId(reader.readLong("studentId"));
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, ExtendMaxId function) throws IOException {
+        writer.writeLong("studentId", function.studentId());
+    }
+
+    @Override
+    public Class<? extends ExtendMaxId> getJavaClass() {
+        return ExtendMaxId.class;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "com.project.cache.ExtendMaxId";
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.cache.config.marshaller;
+
+import com.project.cache.helper.function.MergeIntoPage;
+import com.project.cache.model.view.StudentView;
+import org.infinispan.protostream.MessageMarshaller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Binary form of a page delta, sent to the owner node in distributed mode.
+ */
+public class MergeIntoPageMarshaller implements MessageMarshaller<MergeIntoPage> {
+
+    @Override
+    public MergeIntoPage readFrom(ProtoStreamReader reader) throws IOException {
+        return new MergeIntoPage(reader.readCollection("changes", new ArrayList<>(), StudentView.class));
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, MergeIntoPage function) throws IOException {
+        writer.writeCollection("changes", function.changes(), StudentView.class);
+    }
+
+    @Override
+    public Class<? extends MergeIntoPage> getJavaClass() {
+        return MergeIntoPage.class;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "com.project.cache.MergeIntoPage";
+    }
+}
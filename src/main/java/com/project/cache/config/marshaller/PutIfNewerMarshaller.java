@@ -0,0 +1,33 @@
+package com.project.cache.config.marshaller;
+
+import com.project.cache.helper.function.PutIfNewer;
+import com.project.cache.model.view.StudentView;
+import org.infinispan.protostream.MessageMarshaller;
+
+import java.io.IOException;
+
+/**
+ * Binary form of the conditional student write, sent to the owner node in distributed mode.
+ */
+public class PutIfNewerMarshaller implements MessageMarshaller<PutIfNewer> {
+
+    @Override
+    public PutIfNewer readFrom(ProtoStreamReader reader) throws IOException {
+        return new PutIfNewer(reader.readObject("student", StudentView.class));
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, PutIfNewer function) throws IOException {
+        writer.writeObject("student", function.student(), StudentView.class);
+    }
+
+    @Override
+    public Class<? extends PutIfNewer> getJavaClass() {
+        return PutIfNewer.class;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "com.project.cache.PutIfNewer";
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.cache.config.marshaller;
+
+import com.project.cache.helper.function.RemoveFromPage;
+import org.infinispan.protostream.MessageMarshaller;
+
+import java.io.IOException;
+
+/**
+ * Binary form of a page removal, sent to the owner node in distributed mode.
+ */
+public class RemoveFromPageMarshaller implements MessageMarshaller<RemoveFromPage> {
+
+    @Override
+    public RemoveFromPage readFrom(ProtoStreamReader reader) throws IOException {
+        return new RemoveFromPage(reader.readLong("studentId"));
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, RemoveFromPage function) throws IOException {
+        writer.writeLong("studentId", function.studentId());
+    }
+
+    @Override
+    public Class<? extends RemoveFromPage> getJavaClass() {
+        return RemoveFromPage.class;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "com.project.cache.RemoveFromPage";
+    }
+}
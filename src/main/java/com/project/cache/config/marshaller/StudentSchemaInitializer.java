@@ -0,0 +1,42 @@
+package com.project.cache.config.marshaller;
+
+import org.infinispan.protostream.FileDescriptorSource;
+import org.infinispan.protostream.SerializationContext;
+import org.infinispan.protostream.SerializationContextInitializer;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Registers the student schema and marshallers with Infinispan, including the compute functions a
+ * distributed cache runs on the owner node. Referenced from the serialization section of every
+ * infinispan*.xml.
+ */
+public class StudentSchemaInitializer implements SerializationContextInitializer {
+
+    private static final String PROTO_FILE = "proto/student.proto";
+
+    @Override
+    public String getProtoFileName() {
+        return "student.proto";
+    }
+
+    @Override
+    public String getProtoFile() throws UncheckedIOException {
+        return FileDescriptorSource.getResourceAsString(getClass(), "/" + PROTO_FILE);
+    }
+
+    @Override
+    public void registerSchema(SerializationContext serCtx) {
+        serCtx.registerProtoFiles(FileDescriptorSource.fromString(getProtoFileName(), getProtoFile()));
+    }
+
+    @Override
+    public void registerMarshallers(SerializationContext serCtx) {
+        serCtx.registerMarshaller(new SubjectRefMarshaller());
+        serCtx.registerMarshaller(new StudentViewMarshaller());
+        serCtx.registerMarshaller(new PutIfNewerMarshaller());
+        serCtx.registerMarshaller(new MergeIntoPageMarshaller());
+        serCtx.registerMarshaller(new RemoveFromPageMarshaller());
+        serCtx.registerMarshaller(new ExtendMaxIdMarshaller());
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.cache.config.marshaller;
+
+import com.project.cache.model.view.StudentView;
+import com.project.cache.model.view.SubjectRef;
+import org.infinispan.protostream.MessageMarshaller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Binary form of a cached student with its subjects embedded. A view without loaded subjects
+ * is stored as "not loaded" rather than as an empty list.
+ */
+public class StudentViewMarshaller implements MessageMarshaller<StudentView> {
+
+    @Override
+    public StudentView readFrom(ProtoStreamReader reader) throws IOException {
+        Long id = reader.readLong("id");
+        String email = reader.readString("email");
+        String name = reader.readString("name");
+        String department = reader.readString("department");
+        ArrayList<SubjectRef> subjects = reader.readCollection("subjects", new ArrayList<>(), SubjectRef.class);
+        Boolean subjectsLoaded = reader.readBoolean("subjectsLoaded");
+        Long version = reader.readLong("version");
+        return new StudentView(id, email, name, department, version, Boolean.TRUE.equals(subjectsLoaded) ? subjects : null);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, StudentView student) throws IOException {
+        writer.writeLong("id", student.id());
+        writer.writeString("email", student.email());
+        writer.writeString("name", student.name());
+        writer.writeString("department", student.department());
+        if (student.hasSubjects()) {
+            writer.writeCollection("subjects", student.subjects(), SubjectRef.class);
+        }
+        writer.writeBoolean("subjectsLoaded", student.hasSubjects());
+        writer.writeLong("version", student.version());
+    }
+
+    @Override
+    public Class<? extends StudentView> getJavaClass() {
+        return StudentView.class;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "com.project.cache.Student";
+    }
+}
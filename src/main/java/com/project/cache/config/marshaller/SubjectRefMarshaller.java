@@ -0,0 +1,33 @@
+package com.project.cache.config.marshaller;
+
+import com.project.cache.model.view.SubjectRef;
+import org.infinispan.protostream.MessageMarshaller;
+
+import java.io.IOException;
+
+/**
+ * Binary form of a subject embedded in a cached student.
+ */
+public class SubjectRefMarshaller implements MessageMarshaller<SubjectRef> {
+
+    @Override
+    public SubjectRef readFrom(ProtoStreamReader reader) throws IOException {
+        return new SubjectRef(reader.readLong("id"), reader.readString("name"));
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, SubjectRef subject) throws IOException {
+        writer.writeLong("id", subject.id());
+        writer.writeString("name", subject.name());
+    }
+
+    @Override
+    public Class<? extends SubjectRef> getJavaClass() {
+        return SubjectRef.class;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "com.project.cache.Subject";
+    }
+}
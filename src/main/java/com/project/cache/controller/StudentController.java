@@ -1,12 +1,21 @@
 package com.project.cache.controller;
 
+import com.project.cache.helper.EncodedResponseCache;
+import com.project.cache.helper.EncodedResponseCache.Encoded;
 import com.project.cache.model.dto.StudentDTO;
 import com.project.cache.model.Student;
+import com.project.cache.model.view.StudentView;
 import com.project.cache.services.StudentService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -14,29 +23,91 @@ import java.util.List;
 @RequestMapping("/students")
 public class StudentController {
 
-    private StudentService studentService;
-
-    public StudentController(StudentService studentService) {
-        this.studentService = studentService;
-    }
+    private final StudentService studentService;
+    private final EncodedResponseCache responseCache;
 
     @PostMapping
     public Student createStudent(@RequestBody StudentDTO dto) {
         return studentService.createStudent(dto);
     }
 
+    @PostMapping("/bulk")
+    public List<Student> createStudents(@RequestBody List<StudentDTO> dtos) {
+        return studentService.createStudents(dtos);
+    }
+
     @PutMapping("/{id}")
     public Student updateStudent(@PathVariable Long id, @RequestBody StudentDTO dto) {
         return studentService.updateStudent(id, dto);
     }
 
+    @GetMapping("/batch")
+    public List<StudentView> getStudentsByIds(@RequestParam List<Long> ids) {
+        return studentService.findStudentsByIds(ids);
+    }
+
     @GetMapping("/{id}")
-    public Student getStudentById(@PathVariable Long id) {
-        return studentService.findStudentById(id);
+    public ResponseEntity<byte[]> getStudentById(@PathVariable Long id, WebRequest request) {
+        Encoded student = responseCache.encode("student:" + id, studentService.findStudentById(id));
+        return encodedResponse(student.body(), student.etag(), request);
+    }
+
+    @GetMapping("/by-email/{email}")
+    public ResponseEntity<byte[]> getStudentByEmail(@PathVariable String email, WebRequest request) {
+        StudentView view = studentService.findStudentByEmail(email);
+        Encoded student = responseCache.encode("student:" + view.id(), view);
+        return encodedResponse(student.body(), student.etag(), request);
     }
 
     @GetMapping
-    public List<Student> findAllStudents() {
-        return studentService.findAllStudents();
+    public ResponseEntity<?> findAllStudents(@RequestParam(required = false) Long afterId,
+                                             @RequestParam(required = false) Integer limit,
+                                             WebRequest request) {
+        if (afterId == null && limit == null) {
+            return encodedList(studentService.findAllStudentPages(), request);
+        }
+        return ResponseEntity.ok(studentService.findStudentsPage(afterId, limit));
+    }
+
+    // The full list is the concatenation of its encoded pages, so only changed pages are serialized again
+    private ResponseEntity<byte[]> encodedList(List<List<StudentView>> pages, WebRequest request) {
+        List<Encoded> encodedPages = new ArrayList<>(pages.size());
+        StringBuilder pageTags = new StringBuilder();
+        for (int pageIndex = 0; pageIndex < pages.size(); pageIndex++) {
+            if (!pages.get(pageIndex).isEmpty()) {
+                Encoded page = responseCache.encode("page:" + pageIndex, pages.get(pageIndex));
+                encodedPages.add(page);
+                pageTags.append(page.etag());
+            }
+        }
+        String etag = "\"0" + DigestUtils.md5DigestAsHex(pageTags.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write('[');
+        for (int i = 0; i < encodedPages.size(); i++) {
+            byte[] page = encodedPages.get(i).body();
+            if (i > 0) {
+                body.write(',');
+            }
+            // Each page is itself a JSON array; its elements are spliced in without the brackets
+            body.write(page, 1, page.length - 2);
+        }
+        body.write(']');
+        return encodedBody(body.toByteArray(), etag);
+    }
+
+    // Pre-encoded JSON with a strong ETag; a matching If-None-Match is answered with 304 and no body
+    private ResponseEntity<byte[]> encodedResponse(byte[] body, String etag, WebRequest request) {
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return encodedBody(body, etag);
+    }
+
+    private ResponseEntity<byte[]> encodedBody(byte[] body, String etag) {
+        return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
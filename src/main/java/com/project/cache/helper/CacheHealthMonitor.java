@@ -0,0 +1,131 @@
+package com.project.cache.helper;
+
+import com.project.cache.config.InfinispanConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.infinispan.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker over the Infinispan cache, fed by a background heartbeat and by the outcome of strict
+ * cache operations. Callers only read the volatile state, so availability checks never touch the cache.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheHealthMonitor {
+
+    public enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private static final String HEARTBEAT_KEY_PREFIX = "health_heartbeat:";
+
+    private final InfinispanConfig infinispanConfig;
+
+    @Value("${app.cache.health.heartbeat-interval-ms:5000}")
+    private long heartbeatIntervalMillis;
+
+    @Value("${app.cache.health.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${app.cache.health.open-duration-ms:30000}")
+    private long openDurationMillis;
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private volatile long openedAt;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private ScheduledExecutorService heartbeat;
+
+    // One key per node, so nodes sharing a clustered metadata cache do not read each other's stamp
+    private String heartbeatKey;
+
+    @PostConstruct
+    public void start() {
+        heartbeatKey = HEARTBEAT_KEY_PREFIX + infinispanConfig.getNodeName();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::runHeartbeat,
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Cache heartbeat started with interval {} ms", heartbeatIntervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+    }
+
+    public boolean isAvailable() {
+        return state != CircuitState.OPEN;
+    }
+
+    public CircuitState getState() {
+        return state;
+    }
+
+    public void recordSuccess() {
+        if (state == CircuitState.CLOSED && consecutiveFailures.get() == 0) {
+            return;
+        }
+        consecutiveFailures.set(0);
+        if (state != CircuitState.CLOSED) {
+            log.info("Cache circuit closed after successful operation");
+            state = CircuitState.CLOSED;
+        }
+    }
+
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state == CircuitState.HALF_OPEN || (state == CircuitState.CLOSED && failures >= failureThreshold)) {
+            open(failures);
+        }
+    }
+
+    private void open(int failures) {
+        openedAt = System.currentTimeMillis();
+        state = CircuitState.OPEN;
+        log.error("Cache circuit opened after {} consecutive failures", failures);
+    }
+
+    private void runHeartbeat() {
+        if (state == CircuitState.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                return;
+            }
+            state = CircuitState.HALF_OPEN;
+            log.info("Cache circuit half-open, probing cache");
+        }
+
+        if (probe()) {
+            recordSuccess();
+        } else {
+            recordFailure();
+        }
+    }
+
+    private boolean probe() {
+        try {
+            Cache<String, Object> cache = infinispanConfig.getMetadataCache();
+            long stamp = System.nanoTime();
+            cache.put(heartbeatKey, stamp, heartbeatIntervalMillis * 2, TimeUnit.MILLISECONDS);
+            boolean healthy = Long.valueOf(stamp).equals(cache.get(heartbeatKey));
+            log.debug("Cache heartbeat completed, healthy: {}", healthy);
+            return healthy;
+        } catch (Exception e) {
+            log.warn("Cache heartbeat failed: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -3,24 +3,65 @@ package com.project.cache.helper;
 
 import com.project.cache.exception.CacheException;
 import com.project.cache.model.Student;
+import com.project.cache.model.view.StudentView;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Student cache operations. Writers hand in entities, which are stored as StudentView read models;
+ * reads and read-through loads work on the views directly.
+ */
 public interface CacheHelper {
 
     // Best-effort methods (for Cache-Aside and Async strategies)
     void cacheStudent(Student student);
     void updateStudentInCache(Student student);
-    Student getStudentFromCacheById(Long id);
+    StudentView getStudentFromCacheById(Long id);
+    Map<Long, StudentView> getStudentsFromCacheByIds(Collection<Long> ids);
     void removeStudentFromCache(Long id);
-    List<Student> getAllStudentsFromCache();
     void addStudentsToCache(List<Student> students);
     void invalidateAllStudentsCache();
 
+    // Read-through - stores copies just loaded from the database without invalidating other nodes' copies
+    void cacheLoadedStudent(StudentView student);
+    void cacheLoadedStudents(List<StudentView> students);
+
+    // Email index - email to id, kept by the same writes that keep the id-keyed cache
+    StudentView getStudentFromCacheByEmail(String email);
+
+    // Refresh-ahead - swaps a freshly loaded student in, restarting its lifespan
+    void refreshStudentInCache(StudentView student);
+
+    // Paged list methods - the student list is cached as fixed-size id-range pages, kept current by deltas
+    List<StudentView> getStudentPageFromCache(long pageIndex);
+    void cacheStudentPage(long pageIndex, List<StudentView> students);
+    Long getMaxStudentIdFromCache();
+    void cacheMaxStudentId(Long maxId);
+    void applyStudentToPage(Student student);
+    void applyStudentsToPages(List<Student> students);
+    void removeStudentFromPage(Long studentId);
+    void reapplyCachedStudentToPage(Long studentId);
+    void invalidateStudentPage(Long studentId);
+    long pageIndexOf(Long studentId);
+    int getStudentPageSize();
+
+    // Negative cache - ids and emails confirmed absent in the database
+    boolean isStudentKnownMissing(Long id);
+    void markStudentMissing(Long id);
+    boolean isEmailKnownMissing(String email);
+    void markEmailMissing(String email);
+    void clearMissingMarkers(Student student);
+
     // Strict methods (for WriteThrough and FailFast strategies)
     void cacheStudentStrict(Student student) throws CacheException;
     void updateStudentInCacheStrict(Student student) throws CacheException;
     void removeStudentFromCacheStrict(Long id) throws CacheException;
     void invalidateAllStudentsCacheStrict() throws CacheException;
+    void applyStudentToPageStrict(Student student) throws CacheException;
+    void removeStudentFromPageStrict(Long studentId) throws CacheException;
+    void addStudentsToCacheStrict(List<Student> students) throws CacheException;
+    void applyStudentsToPagesStrict(List<Student> students) throws CacheException;
 
     // Utility methods
     boolean isCacheAvailable();
@@ -1,6 +1,12 @@
 package com.project.cache.helper;
 
 public class Constants {
-    public static final String STUDENT_KEY_PREFIX = "student";
-    public static final String ALL_STUDENTS_KEY = "allStudents";
+    public static final String STUDENTS_CACHE = "studentsCache";
+    public static final String STUDENT_PAGES_CACHE = "studentPagesCache";
+    public static final String STUDENT_EMAILS_CACHE = "studentEmailsCache";
+    public static final String METADATA_CACHE = "cacheMetadata";
+    public static final String MISSING_STUDENT_IDS_CACHE = "missingStudentIdsCache";
+    public static final String MISSING_STUDENT_EMAILS_CACHE = "missingStudentEmailsCache";
+
+    public static final String STUDENT_MAX_ID_KEY = "studentsMaxId";
 }
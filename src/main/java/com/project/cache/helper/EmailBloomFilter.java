@@ -0,0 +1,257 @@
+package com.project.cache.helper;
+
+import com.project.cache.repository.StudentRepository;
+import com.project.cache.repository.StudentViewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter over every student email, so an email that was never stored is known free without a query.
+ * It answers "definitely absent" or "possibly present"; only the latter needs the database. Built by
+ * streaming the table once the application is ready and then every rebuild-interval-ms, which also sheds
+ * deleted emails and resizes it to the table. Emails are added once the transaction that stored them
+ * commits. Until the first build completes every email is reported as possibly present.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailBloomFilter {
+
+    // Room for the table to double before the next rebuild resizes the filter
+    private static final int GROWTH_FACTOR = 2;
+    private static final long MIN_EXPECTED_EMAILS = 10_000;
+
+    private final StudentRepository studentRepository;
+    private final StudentViewRepository studentViewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.students.email-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.students.email-filter.fpp:0.01}")
+    private double targetFpp;
+
+    @Value("${app.students.email-filter.rebuild-interval-ms:3600000}")
+    private long rebuildIntervalMillis;
+
+    private final AtomicReference<Bits> current = new AtomicReference<>();
+    // Filter being built, if any; adds go to it as well so none is lost when it is swapped in
+    private volatile Bits building;
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private ScheduledExecutorService rebuilder;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuildSafely, 0, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    // False only for an email that was never added since the last build started
+    public boolean mightContain(String email) {
+        Bits bits = current.get();
+        if (bits == null || email == null) {
+            return true;
+        }
+        if (bits.mightContain(email)) {
+            return true;
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    // A possible hit the database reported absent
+    public void recordFalsePositive() {
+        if (current.get() != null) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(String email) {
+        if (email != null) {
+            addAfterCommit(List.of(email));
+        }
+    }
+
+    public void addAll(Collection<String> emails) {
+        addAfterCommit(emails);
+    }
+
+    // A build streams only committed rows, so adding at commit leaves no window in which a swapped-in
+    // filter misses a stored email
+    private void addAfterCommit(Collection<String> emails) {
+        if (!enabled || emails.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addNow(emails);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addNow(emails);
+            }
+        });
+    }
+
+    private void addNow(Collection<String> emails) {
+        Bits pending = building;
+        Bits bits = current.get();
+        for (String email : emails) {
+            if (email == null) {
+                continue;
+            }
+            if (pending != null) {
+                pending.add(email);
+            }
+            if (bits != null) {
+                bits.add(email);
+            }
+        }
+    }
+
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long expected = Math.max(MIN_EXPECTED_EMAILS, studentRepository.count() * GROWTH_FACTOR);
+        Bits bits = Bits.forExpected(expected, targetFpp);
+        building = bits;
+        try {
+            long[] streamed = {0};
+            transactionTemplate.executeWithoutResult(status -> studentViewRepository.forEachEmail(email -> {
+                bits.add(email);
+                streamed[0]++;
+            }));
+            current.set(bits);
+            log.info("Email filter built from {} emails in {} ms - {} bits, {} hashes, fill ratio {}",
+                    streamed[0], System.currentTimeMillis() - startedAt, bits.size(), bits.hashes(),
+                    String.format("%.4f", bits.fillRatio()));
+        } finally {
+            building = null;
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Email filter rebuild failed - keeping the previous filter", e);
+        }
+    }
+
+    // Share of bits set; the false-positive rate climbs steeply once this passes one half
+    public double getFillRatio() {
+        Bits bits = current.get();
+        return bits != null ? bits.fillRatio() : 0;
+    }
+
+    // False-positive rate implied by the current fill ratio
+    public double getExpectedFpp() {
+        Bits bits = current.get();
+        return bits != null ? Math.pow(bits.fillRatio(), bits.hashes()) : 0;
+    }
+
+    // Share of absent emails the filter failed to rule out, as confirmed by the database
+    public double getObservedFpp() {
+        long negatives = definiteMisses.sum() + falsePositives.sum();
+        return negatives > 0 ? (double) falsePositives.sum() / negatives : 0;
+    }
+
+    public long getDefiniteMissCount() {
+        return definiteMisses.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    // Bit array probed at k positions derived from two 64-bit hashes (Kirsch-Mitzenmacher double hashing)
+    private record Bits(AtomicLongArray words, long size, int hashes) {
+
+        static Bits forExpected(long expected, double fpp) {
+            long size = Math.max(64, (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+            int hashes = Math.max(1, (int) Math.round((double) size / expected * Math.log(2)));
+            return new Bits(new AtomicLongArray((int) ((size + 63) / 64)), size, hashes);
+        }
+
+        void add(String email) {
+            long hash1 = hash(email, 0x9E3779B97F4A7C15L);
+            long hash2 = hash(email, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, size);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value = words.get(word);
+                while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+                    value = words.get(word);
+                }
+            }
+        }
+
+        boolean mightContain(String email) {
+            long hash1 = hash(email, 0x9E3779B97F4A7C15L);
+            long hash2 = hash(email, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, size);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double fillRatio() {
+            long set = 0;
+            for (int i = 0; i < words.length(); i++) {
+                set += Long.bitCount(words.get(i));
+            }
+            return (double) set / size;
+        }
+
+        // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 64-bit mix
+        private static long hash(String email, long seed) {
+            long hash = seed ^ 0xCBF29CE484222325L;
+            for (byte b : email.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            hash *= 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
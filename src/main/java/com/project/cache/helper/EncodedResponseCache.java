@@ -0,0 +1,107 @@
+package com.project.cache.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JSON encodings of read responses, kept next to the cached objects they were built from. An encoding is
+ * reused while its source is the same immutable object (or an equal one, as a clustered cache hands out
+ * copies), so a repeat read of an unchanged student or list page skips Jackson. The ETag is a digest of
+ * the bytes and so changes with any change to the content, including one that does not bump the version.
+ * When disabled, responses are encoded on every read but still carry the ETag. Over max-entries the least
+ * recently used of a small random sample is dropped, as in StudentNearCache.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EncodedResponseCache {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.cache.response.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cache.response.max-entries:2000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<Object, Slot> entries = new ConcurrentHashMap<>();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder encoded = new LongAdder();
+
+    public Encoded encode(Object key, Object source) {
+        if (enabled) {
+            Slot cached = entries.get(key);
+            if (cached != null && (cached.encoded.source() == source || cached.encoded.source().equals(source))) {
+                cached.lastAccess = System.currentTimeMillis();
+                reused.increment();
+                return cached.encoded;
+            }
+        }
+        Encoded fresh = encode(source);
+        if (enabled) {
+            entries.put(key, new Slot(fresh, System.currentTimeMillis()));
+            evictOverflow(key);
+        }
+        return fresh;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    public long getEncodedCount() {
+        return encoded.sum();
+    }
+
+    private Encoded encode(Object source) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(source);
+            encoded.increment();
+            return new Encoded(source, body, "\"0" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // The entry just stored is the most recently used, so it is only picked when it is all the sample
+    // saw; it then stays and the overflow is trimmed by a later put
+    private void evictOverflow(Object keep) {
+        while (entries.size() > maxEntries) {
+            Map.Entry<Object, Slot> victim = SampledEviction.pickVictim(entries, EVICTION_SAMPLE_SIZE,
+                    slot -> slot.lastAccess, slot -> false);
+            if (victim == null || victim.getKey().equals(keep)) {
+                return;
+            }
+            entries.remove(victim.getKey(), victim.getValue());
+        }
+    }
+
+    public record Encoded(Object source, byte[] body, String etag) {
+    }
+
+    private static final class Slot {
+        private final Encoded encoded;
+        private volatile long lastAccess;
+
+        private Slot(Encoded encoded, long lastAccess) {
+            this.encoded = encoded;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.project.cache.helper;
+
+import com.project.cache.config.InfinispanConfig;
+import com.project.cache.metrics.CacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded executor for background cache writes. Every key maps to one single-threaded stripe, so writes
+ * for the same key run in submission order; a write submitted while an earlier one for the key is still
+ * queued replaces it. When a stripe queue stays full for offer-timeout-ms the write is handed to its
+ * overflow action instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeyOrderedExecutor {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final InfinispanConfig infinispanConfig;
+    private final CacheMetrics cacheMetrics;
+
+    @Value("${app.cache.async.threads:4}")
+    private int threads;
+
+    @Value("${app.cache.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.cache.async.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    // Latest not-yet-started write per key; the queued runner for the key executes whatever is here
+    private final ConcurrentHashMap<Long, PendingTask> pending = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private List<Stripe> stripes;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        int perStripeCapacity = Math.max(1, queueCapacity / threads);
+        stripes = new ArrayList<>(threads);
+        running = true;
+        for (int i = 0; i < threads; i++) {
+            Stripe stripe = new Stripe(new ArrayBlockingQueue<>(perStripeCapacity), "async-cache-" + i);
+            stripes.add(stripe);
+            stripe.worker.start();
+        }
+        infinispanConfig.registerShutdownHook("async cache drain", this::drain);
+        log.info("Async cache executor started with {} stripes of capacity {}", threads, perStripeCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        drain();
+    }
+
+    /**
+     * Runs the task after every earlier task for the key. If a task for the key is still waiting it is
+     * superseded by this one.
+     */
+    public void execute(Long key, Runnable task, Runnable onOverflow) {
+        PendingTask next = new PendingTask(task, onOverflow, System.nanoTime());
+        boolean[] superseded = {false};
+        pending.compute(key, (id, previous) -> {
+            if (previous == null) {
+                return next;
+            }
+            superseded[0] = true;
+            // Lag is measured from the oldest write the runner is standing in for
+            return new PendingTask(task, onOverflow, previous.submittedAt());
+        });
+        if (superseded[0]) {
+            coalesced.increment();
+            return;
+        }
+
+        Runnable runner = () -> {
+            PendingTask current = pending.remove(key);
+            if (current != null) {
+                run(current);
+            }
+        };
+        if (!offer(stripeFor(key), runner)) {
+            // A later write may have superseded this one while the offer waited; it is the one left without a
+            // runner, so its overflow action runs instead
+            PendingTask dropped = pending.remove(key);
+            if (dropped != null) {
+                overflow(dropped.onOverflow());
+            }
+        }
+    }
+
+    /**
+     * Runs the task once per stripe over the items whose keys hash to it, after every earlier task for those
+     * keys. Waiting single-key tasks for the same keys are superseded.
+     */
+    public <T> void executeAll(Collection<T> items, Function<T, Long> keyOf,
+                               Consumer<List<T>> task, Consumer<List<T>> onOverflow) {
+        List<List<T>> byStripe = new ArrayList<>(stripes.size());
+        for (int i = 0; i < stripes.size(); i++) {
+            byStripe.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            Long key = keyOf.apply(item);
+            if (pending.remove(key) != null) {
+                coalesced.increment();
+            }
+            byStripe.get(stripeIndex(key)).add(item);
+        }
+
+        long submittedAt = System.nanoTime();
+        for (int i = 0; i < stripes.size(); i++) {
+            List<T> stripeItems = byStripe.get(i);
+            if (stripeItems.isEmpty()) {
+                continue;
+            }
+            PendingTask batch = new PendingTask(() -> task.accept(stripeItems), () -> onOverflow.accept(stripeItems), submittedAt);
+            if (!offer(stripes.get(i), () -> run(batch))) {
+                overflow(batch.onOverflow());
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Stripe stripe : stripes) {
+            depth += stripe.queue.size();
+        }
+        return depth;
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public void drain() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        log.info("Draining {} queued async cache writes", getQueueDepth());
+        for (Stripe stripe : stripes) {
+            try {
+                stripe.worker.join(offerTimeoutMillis + POLL_MILLIS * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean offer(Stripe stripe, Runnable runner) {
+        if (!running) {
+            return false;
+        }
+        try {
+            return stripe.queue.offer(runner, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void overflow(Runnable onOverflow) {
+        rejected.increment();
+        try {
+            onOverflow.run();
+        } catch (Exception e) {
+            log.warn("Async cache overflow action failed", e);
+        }
+    }
+
+    private void run(PendingTask task) {
+        cacheMetrics.recordAsyncLag(System.nanoTime() - task.submittedAt());
+        try {
+            task.task().run();
+        } catch (Exception e) {
+            log.warn("Async cache task failed", e);
+        } finally {
+            executed.increment();
+        }
+    }
+
+    private Stripe stripeFor(Long key) {
+        return stripes.get(stripeIndex(key));
+    }
+
+    private int stripeIndex(Long key) {
+        return Math.floorMod(Long.hashCode(key), stripes.size());
+    }
+
+    private void work(BlockingQueue<Runnable> queue) {
+        while (running || !queue.isEmpty()) {
+            try {
+                Runnable runner = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (runner != null) {
+                    runner.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private record PendingTask(Runnable task, Runnable onOverflow, long submittedAt) {
+    }
+
+    private final class Stripe {
+        private final BlockingQueue<Runnable> queue;
+        private final Thread worker;
+
+        private Stripe(BlockingQueue<Runnable> queue, String name) {
+            this.queue = queue;
+            this.worker = new Thread(() -> work(queue), name);
+            this.worker.setDaemon(true);
+        }
+    }
+}
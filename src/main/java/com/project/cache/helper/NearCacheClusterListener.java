@@ -0,0 +1,61 @@
+package com.project.cache.helper;
+
+import com.project.cache.config.InfinispanConfig;
+import com.project.cache.model.view.StudentView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryInvalidated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the near-cache coherent when the student cache is clustered: entries written or invalidated by
+ * another node are dropped here, so the next read goes to Infinispan. Writes made on this node already
+ * update the near-cache directly.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearCacheClusterListener {
+
+    private final InfinispanConfig infinispanConfig;
+    private final StudentNearCache nearCache;
+
+    @PostConstruct
+    public void start() {
+        if (!infinispanConfig.isClustered() || !nearCache.isEnabled()) {
+            return;
+        }
+        // Invalidation mode only notifies locally; distributed mode needs a clustered listener to hear every owner
+        Object listener = infinispanConfig.isInvalidationMode() ? new InvalidationListener() : new DistributedListener();
+        infinispanConfig.getStudentCache().addListener(listener);
+        log.info("Near-cache listening for cluster {} events", infinispanConfig.isInvalidationMode() ? "invalidation" : "write");
+    }
+
+    @Listener
+    public class InvalidationListener {
+
+        @CacheEntryInvalidated
+        public void onInvalidated(CacheEntryEvent<Long, StudentView> event) {
+            nearCache.invalidate(event.getKey());
+        }
+    }
+
+    @Listener(clustered = true)
+    public class DistributedListener {
+
+        @CacheEntryCreated
+        @CacheEntryModified
+        @CacheEntryRemoved
+        public void onWrite(CacheEntryEvent<Long, StudentView> event) {
+            if (!event.isOriginLocal()) {
+                nearCache.invalidate(event.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.cache.helper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects ids of students read from the cache late in their lifespan so they can be reloaded
+ * in the background before they expire. Reads only record the id; the reload happens elsewhere.
+ */
+@Component
+@Slf4j
+public class RefreshAheadTracker {
+
+    @Value("${app.cache.refresh-ahead.enabled:false}")
+    private boolean enabled;
+
+    // Fraction of the lifespan at the end of which a read triggers a refresh, e.g. 0.2 = last 20%
+    @Value("${app.cache.refresh-ahead.window-fraction:0.2}")
+    private double windowFraction;
+
+    @Value("${app.cache.refresh-ahead.max-pending:1000}")
+    private int maxPending;
+
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+    private final LongAdder dropped = new LongAdder();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void onRead(Long id, long created, long lifespan) {
+        if (!enabled || lifespan <= 0 || created <= 0) {
+            return;
+        }
+        long refreshAfter = created + (long) (lifespan * (1 - windowFraction));
+        if (System.currentTimeMillis() < refreshAfter) {
+            return;
+        }
+        if (candidates.size() >= maxPending) {
+            dropped.increment();
+            return;
+        }
+        if (candidates.add(id)) {
+            log.debug("Student id: {} scheduled for refresh-ahead", id);
+        }
+    }
+
+    public List<Long> poll(int max) {
+        List<Long> polled = new ArrayList<>(Math.min(max, candidates.size()));
+        Iterator<Long> it = candidates.iterator();
+        while (polled.size() < max && it.hasNext()) {
+            polled.add(it.next());
+            it.remove();
+        }
+        return polled;
+    }
+
+    public int getPendingCount() {
+        return candidates.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
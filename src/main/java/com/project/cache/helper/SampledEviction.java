@@ -0,0 +1,56 @@
+package com.project.cache.helper;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Approximate-LRU victim selection for the bounded in-process maps. A few consecutive entries are read
+ * from a random position in the map, so every key is equally likely to be sampled, and the first expired
+ * or otherwise least recently used one is the victim. No lock or access-ordered structure is needed.
+ */
+final class SampledEviction {
+
+    private SampledEviction() {
+    }
+
+    static <K, V> Map.Entry<K, V> pickVictim(ConcurrentHashMap<K, V> map, int sampleSize,
+                                              ToLongFunction<V> lastAccess, Predicate<V> expired) {
+        int size = map.size();
+        if (size == 0) {
+            return null;
+        }
+        int skip = ThreadLocalRandom.current().nextInt(size);
+        Iterator<Map.Entry<K, V>> it = map.entrySet().iterator();
+        for (int i = 0; i < skip && it.hasNext(); i++) {
+            it.next();
+        }
+
+        Map.Entry<K, V> victim = null;
+        boolean wrapped = false;
+        for (int sampled = 0; sampled < sampleSize; sampled++) {
+            if (!it.hasNext()) {
+                // Continue from the start of the map once, for a start position near the end
+                if (wrapped) {
+                    break;
+                }
+                wrapped = true;
+                it = map.entrySet().iterator();
+                if (!it.hasNext()) {
+                    break;
+                }
+            }
+            Map.Entry<K, V> candidate = it.next();
+            if (expired.test(candidate.getValue())) {
+                return candidate;
+            }
+            if (victim == null || lastAccess.applyAsLong(candidate.getValue()) < lastAccess.applyAsLong(victim.getValue())) {
+                victim = candidate;
+            }
+        }
+        return victim;
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.cache.helper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent cache-miss loads for the same key. The first caller runs the loader on its own
+ * thread (inside its own transaction); callers arriving while it runs wait on the same future.
+ */
+@Component
+@Slf4j
+public class SingleFlightLoader {
+
+    @Value("${app.cache.single-flight.wait-timeout-ms:2000}")
+    private long waitTimeoutMillis;
+
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <V> V load(String group, Object key, Supplier<V> loader) {
+        FlightKey flightKey = new FlightKey(group, key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, future);
+
+        if (existing == null) {
+            loads.increment();
+            try {
+                V value = loader.get();
+                future.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flightKey, future);
+            }
+        }
+
+        coalesced.increment();
+        try {
+            return (V) existing.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Leader is too slow - load independently rather than stall the request
+            timeouts.increment();
+            log.warn("Timed out waiting {} ms for in-flight load of {} {} - loading directly", waitTimeoutMillis, group, key);
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to load " + group + " " + key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for load of " + group + " " + key, e);
+        }
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private record FlightKey(String group, Object key) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.cache.helper;
+
+import com.project.cache.model.view.StudentView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process L1 near-cache for hot students, consulted by CacheHelperImpl before Infinispan.
+ * Reads are a single ConcurrentHashMap lookup; the size bound is enforced by evicting the least
+ * recently read entry of a small random sample, so no global lock is taken on either path.
+ */
+@Component
+@Slf4j
+public class StudentNearCache {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    @Value("${app.cache.near.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cache.near.max-size:256}")
+    private int maxSize;
+
+    @Value("${app.cache.near.ttl-ms:30000}")
+    private long ttlMillis;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public StudentView get(Long id) {
+        if (!enabled || id == null) {
+            return null;
+        }
+        Entry entry = entries.get(id);
+        long now = System.currentTimeMillis();
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= now) {
+            entries.remove(id, entry);
+            misses.increment();
+            return null;
+        }
+        entry.lastAccess = now;
+        hits.increment();
+        return entry.student;
+    }
+
+    public void put(StudentView student) {
+        if (!enabled || student == null || student.id() == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Entry next = new Entry(student, now + ttlMillis, now);
+        entries.compute(student.id(),
+                (id, existing) -> existing == null || student.isSameOrNewerThan(existing.student) ? next : existing);
+        if (entries.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    public void invalidate(Long id) {
+        if (enabled && id != null) {
+            entries.remove(id);
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    // Drops an expired entry if the sample finds one, otherwise the least recently read one of the sample
+    private void evict(long now) {
+        while (entries.size() > maxSize) {
+            Map.Entry<Long, Entry> victim = SampledEviction.pickVictim(entries, EVICTION_SAMPLE_SIZE,
+                    entry -> entry.lastAccess, entry -> entry.expiresAt <= now);
+            if (victim == null) {
+                return;
+            }
+            if (entries.remove(victim.getKey(), victim.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void logStats() {
+        if (enabled) {
+            log.info("Near-cache stats - hits: {}, misses: {}, evictions: {}, hit ratio: {}",
+                    getHitCount(), getMissCount(), getEvictionCount(), String.format("%.3f", getHitRatio()));
+        }
+    }
+
+    private static final class Entry {
+        private final StudentView student;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(StudentView student, long expiresAt, long lastAccess) {
+            this.student = student;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.project.cache.helper;
+
+import com.project.cache.model.Subject;
+import com.project.cache.repository.SubjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process copy of the subject table, held as an immutable id-indexed snapshot. Reads never lock or
+ * query; a created subject swaps in a new snapshot, and the whole table is reloaded once the snapshot is
+ * older than max-age-ms or an id is not found, which picks up subjects created on other instances.
+ * The subjects handed out are detached copies without their students and must not be modified.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubjectCatalog {
+
+    private final SubjectRepository subjectRepository;
+
+    @Value("${app.subjects.catalog.max-age-ms:60000}")
+    private long maxAgeMillis;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    public List<Subject> findAll() {
+        return snapshot().subjects();
+    }
+
+    // Distinct subjects in request order; an unknown id is rechecked against the database once
+    public List<Subject> resolve(Collection<Long> subjectIds) {
+        if (subjectIds == null || subjectIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Snapshot snapshot = snapshot();
+        List<Subject> subjects = snapshot.resolve(subjectIds);
+        if (subjects == null) {
+            subjects = reload(snapshot).resolve(subjectIds);
+            if (subjects == null) {
+                throw new IllegalArgumentException("Some subject IDs are invalid");
+            }
+        }
+        return subjects;
+    }
+
+    public void add(Subject subject) {
+        Subject copy = detachedCopy(subject);
+        current.updateAndGet(snapshot -> snapshot == null ? null : snapshot.with(copy));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || System.currentTimeMillis() - snapshot.loadedAt() > maxAgeMillis) {
+            return reload(snapshot);
+        }
+        return snapshot;
+    }
+
+    // Serialized so concurrent misses share one query; a snapshot loaded while waiting is reused
+    private synchronized Snapshot reload(Snapshot seen) {
+        Snapshot existing = current.get();
+        if (existing != null && (seen == null || existing.loadedAt() > seen.loadedAt())) {
+            return existing;
+        }
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Subject> byId = new LinkedHashMap<>();
+        subjectRepository.findAll().forEach(subject -> byId.put(subject.getId(), detachedCopy(subject)));
+        Snapshot loaded = new Snapshot(Collections.unmodifiableMap(byId), List.copyOf(byId.values()), startedAt);
+        if (!current.compareAndSet(existing, loaded)) {
+            // A subject was added during the query; keep it alongside the freshly loaded rows
+            Snapshot raced = current.get();
+            if (raced != null) {
+                for (Subject subject : raced.subjects()) {
+                    if (!loaded.byId().containsKey(subject.getId())) {
+                        loaded = loaded.with(subject);
+                    }
+                }
+            }
+            current.set(loaded);
+        }
+        log.debug("Subject catalog loaded with {} subjects", loaded.subjects().size());
+        return loaded;
+    }
+
+    private static Subject detachedCopy(Subject subject) {
+        Subject copy = new Subject();
+        copy.setId(subject.getId());
+        copy.setName(subject.getName());
+        copy.setChapters(subject.getChapters());
+        return copy;
+    }
+
+    private record Snapshot(Map<Long, Subject> byId, List<Subject> subjects, long loadedAt) {
+
+        // Null when any id is unknown
+        List<Subject> resolve(Collection<Long> subjectIds) {
+            List<Subject> resolved = new ArrayList<>(subjectIds.size());
+            for (Long subjectId : new LinkedHashSet<>(subjectIds)) {
+                Subject subject = byId.get(subjectId);
+                if (subject == null) {
+                    return null;
+                }
+                resolved.add(subject);
+            }
+            return resolved;
+        }
+
+        Snapshot with(Subject subject) {
+            Map<Long, Subject> next = new LinkedHashMap<>(byId);
+            next.put(subject.getId(), subject);
+            return new Snapshot(Collections.unmodifiableMap(next), List.copyOf(next.values()), loadedAt);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.cache.helper;
+
+import com.project.cache.exception.CacheException;
+import com.project.cache.model.Student;
+import com.project.cache.model.view.StudentView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects the cache writes of a transaction and publishes them once it commits, as one batch of
+ * conditional puts and one set of removals. Nothing is published on rollback, so the cache never holds a
+ * row the database does not. Outside a transaction writes are published immediately.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionalCachePublisher {
+
+    private final CacheHelper cacheHelper;
+
+    public void publishSaved(Student student) {
+        collect(pending -> pending.save(student));
+    }
+
+    public void publishSaved(List<Student> students) {
+        collect(pending -> students.forEach(pending::save));
+    }
+
+    public void publishDeleted(Long studentId) {
+        collect(pending -> pending.delete(studentId));
+    }
+
+    // One batch per transaction, bound to it on the first write and released when it completes
+    private void collect(Consumer<PendingWrites> write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingWrites immediate = new PendingWrites();
+            write.accept(immediate);
+            publish(immediate);
+            return;
+        }
+        PendingWrites pending = (PendingWrites) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingWrites();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PublishOnCommit(pending));
+        }
+        write.accept(pending);
+    }
+
+    private void publish(PendingWrites pending) {
+        List<Student> saved = new ArrayList<>(pending.saved.values());
+        try {
+            if (!saved.isEmpty()) {
+                cacheHelper.addStudentsToCacheStrict(saved);
+                saved.forEach(cacheHelper::clearMissingMarkers);
+                cacheHelper.applyStudentsToPagesStrict(saved);
+            }
+            for (Long studentId : pending.deleted) {
+                cacheHelper.removeStudentFromCacheStrict(studentId);
+                cacheHelper.removeStudentFromPageStrict(studentId);
+            }
+            log.debug("Published {} saved and {} deleted students to cache", saved.size(), pending.deleted.size());
+        } catch (CacheException e) {
+            // The database has committed; drop what may now be stale rather than leave it to expire
+            log.error("Failed to publish {} committed student writes to cache - evicting them", pending.size(), e);
+            saved.forEach(student -> evict(student.getId()));
+            pending.deleted.forEach(this::evict);
+        }
+    }
+
+    private void evict(Long studentId) {
+        cacheHelper.removeStudentFromCache(studentId);
+        cacheHelper.invalidateStudentPage(studentId);
+    }
+
+    // Last write per id wins; a delete cancels an earlier save of the same id and the reverse
+    private static final class PendingWrites {
+        private final Map<Long, Student> saved = new LinkedHashMap<>();
+        private final Set<Long> deleted = new LinkedHashSet<>();
+
+        private void save(Student student) {
+            deleted.remove(student.getId());
+            saved.merge(student.getId(), student, (current, next) ->
+                    StudentView.isSameOrNewer(next.getVersion(), current.getVersion()) ? next : current);
+        }
+
+        private void delete(Long studentId) {
+            saved.remove(studentId);
+            deleted.add(studentId);
+        }
+
+        private int size() {
+            return saved.size() + deleted.size();
+        }
+    }
+
+    private final class PublishOnCommit implements TransactionSynchronization {
+        private final PendingWrites pending;
+
+        private PublishOnCommit(PendingWrites pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void afterCommit() {
+            publish(pending);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalCachePublisher.this);
+            if (status != STATUS_COMMITTED) {
+                log.debug("Discarded {} cache writes of a rolled back transaction", pending.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.cache.helper.function;
+
+import java.util.function.BiFunction;
+
+/**
+ * Compute function that raises the cached max student id so a newly created id stays reachable by the list.
+ * An absent max id stays absent; the next list read loads it.
+ */
+public record ExtendMaxId(Long studentId) implements BiFunction<String, Object, Object> {
+
+    @Override
+    public Object apply(String key, Object maxId) {
+        if (maxId == null) {
+            return null;
+        }
+        return studentId > (Long) maxId ? studentId : maxId;
+    }
+}
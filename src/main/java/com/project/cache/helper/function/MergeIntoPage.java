@@ -0,0 +1,57 @@
+package com.project.cache.helper.function;
+
+import com.project.cache.model.view.StudentView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Compute function that merges changed students into a cached id-range page. Returns a copy with the changes
+ * applied in id order, or null (drop the page) when one cannot be applied. An absent page stays absent.
+ */
+public record MergeIntoPage(List<StudentView> changes) implements BiFunction<Long, List<StudentView>, List<StudentView>> {
+
+    @Override
+    public List<StudentView> apply(Long pageIndex, List<StudentView> page) {
+        if (page == null) {
+            return null;
+        }
+        List<StudentView> merged = new ArrayList<>(page.size() + changes.size());
+        merged.addAll(page);
+        for (StudentView change : changes) {
+            int index = indexOfId(merged, change.id());
+            if (index >= 0) {
+                StudentView current = merged.get(index);
+                if (change.isSameOrNewerThan(current)) {
+                    // Subjects left unloaded by the write did not change, so the page keeps its copy of them
+                    merged.set(index, change.hasSubjects() ? change : change.withSubjects(current.subjects()));
+                }
+            } else if (change.hasSubjects()) {
+                merged.add(-index - 1, change);
+            } else {
+                // Pages are served with subjects; an entry without them would need a query to complete
+                return null;
+            }
+        }
+        return merged;
+    }
+
+    // Pages are sorted by id, as loaded by StudentViewRepository.findIdRange
+    static int indexOfId(List<StudentView> page, Long id) {
+        int low = 0;
+        int high = page.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = page.get(mid).id().compareTo(id);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.cache.helper.function;
+
+import com.project.cache.model.view.StudentView;
+
+import java.util.function.BiFunction;
+
+/**
+ * Compute function that stores the student unless the cache already holds a newer version of it, so a late
+ * write of an older read cannot win. A copy without subjects keeps the cached subjects, and is not stored
+ * when nothing is cached, since a hit must be served without a query. Marshallable, so a clustered cache
+ * can run it on the owner node.
+ */
+public record PutIfNewer(StudentView student) implements BiFunction<Long, StudentView, StudentView> {
+
+    @Override
+    public StudentView apply(Long id, StudentView existing) {
+        if (existing == null) {
+            return student.hasSubjects() ? student : null;
+        }
+        if (!student.isSameOrNewerThan(existing)) {
+            return existing;
+        }
+        return student.hasSubjects() ? student : student.withSubjects(existing.subjects());
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.cache.helper.function;
+
+import com.project.cache.model.view.StudentView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Compute function that drops one student from a cached id-range page. An absent page stays absent.
+ */
+public record RemoveFromPage(Long studentId) implements BiFunction<Long, List<StudentView>, List<StudentView>> {
+
+    @Override
+    public List<StudentView> apply(Long pageIndex, List<StudentView> page) {
+        if (page == null) {
+            return null;
+        }
+        int index = MergeIntoPage.indexOfId(page, studentId);
+        if (index < 0) {
+            return page;
+        }
+        List<StudentView> remaining = new ArrayList<>(page);
+        remaining.remove(index);
+        return remaining;
+    }
+}
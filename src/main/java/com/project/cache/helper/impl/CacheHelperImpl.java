@@ -3,19 +3,40 @@ package com.project.cache.helper.impl;
 
 import com.project.cache.config.InfinispanConfig;
 import com.project.cache.exception.CacheException;
+import com.project.cache.helper.CacheHealthMonitor;
 import com.project.cache.helper.CacheHelper;
+import com.project.cache.helper.RefreshAheadTracker;
+import com.project.cache.helper.StudentNearCache;
+import com.project.cache.helper.function.ExtendMaxId;
+import com.project.cache.helper.function.MergeIntoPage;
+import com.project.cache.helper.function.PutIfNewer;
+import com.project.cache.helper.function.RemoveFromPage;
+import com.project.cache.metrics.CacheMetrics;
 import com.project.cache.model.Student;
+import com.project.cache.model.view.StudentView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.infinispan.Cache;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.context.Flag;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
-import static com.project.cache.helper.Constants.ALL_STUDENTS_KEY;
-import static com.project.cache.helper.Constants.STUDENT_KEY_PREFIX;
+import static com.project.cache.helper.Constants.STUDENT_MAX_ID_KEY;
+import static com.project.cache.metrics.CacheMetrics.EMAIL;
+import static com.project.cache.metrics.CacheMetrics.ENTITY;
+import static com.project.cache.metrics.CacheMetrics.LIST;
+import static com.project.cache.metrics.CacheMetrics.NEGATIVE;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +44,19 @@ import static com.project.cache.helper.Constants.STUDENT_KEY_PREFIX;
 public class CacheHelperImpl implements CacheHelper {
 
     private final InfinispanConfig infinispanConfig;
+    private final StudentNearCache nearCache;
+    private final CacheHealthMonitor healthMonitor;
+    private final RefreshAheadTracker refreshAheadTracker;
+    private final CacheMetrics cacheMetrics;
+
+    @Value("${app.cache.list.page-size:500}")
+    private int studentPageSize;
+
+    @Value("${app.cache.negative.id-ttl-ms:30000}")
+    private long missingIdTtlMillis;
+
+    @Value("${app.cache.negative.email-ttl-ms:10000}")
+    private long missingEmailTtlMillis;
 
     // ===============================================
     // BEST-EFFORT METHODS (for Cache-Aside and Async)
@@ -31,11 +65,11 @@ public class CacheHelperImpl implements CacheHelper {
     @Override
     public void cacheStudent(Student student) {
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            String key = STUDENT_KEY_PREFIX + student.getId();
-            cache.put(key, student);
+            putIfNewer(StudentView.of(student));
             log.debug("Cached student with id: {}", student.getId());
         } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("cacheStudent");
+            nearCache.invalidate(student.getId());
             log.warn("Failed to cache student with id: {} - continuing gracefully", student.getId(), e);
             // Don't throw - best effort for Cache-Aside and Async strategies
         }
@@ -44,103 +78,493 @@ public class CacheHelperImpl implements CacheHelper {
     @Override
     public void updateStudentInCache(Student student) {
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            String key = STUDENT_KEY_PREFIX + student.getId();
-            cache.put(key, student);
+            putIfNewer(StudentView.of(student));
             log.debug("Updated student in cache with id: {}", student.getId());
         } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("updateStudentInCache");
+            nearCache.invalidate(student.getId());
             log.warn("Failed to update student in cache with id: {} - continuing gracefully", student.getId(), e);
         }
     }
 
     @Override
-    public Student getStudentFromCacheById(Long id) {
+    public void cacheLoadedStudent(StudentView student) {
+        try {
+            putIfNewer(forLoads(infinispanConfig.getStudentCache()), student);
+            log.debug("Cached loaded student with id: {}", student.id());
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("cacheLoadedStudent");
+            nearCache.invalidate(student.id());
+            log.warn("Failed to cache loaded student with id: {} - continuing gracefully", student.id(), e);
+        }
+    }
+
+    @Override
+    public void cacheLoadedStudents(List<StudentView> students) {
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            String key = STUDENT_KEY_PREFIX + id;
-            Student student = (Student) cache.get(key);
+            putAllIfNewer(forLoads(infinispanConfig.getStudentCache()), students);
+            log.debug("Cached {} loaded students", students.size());
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("cacheLoadedStudents");
+            log.warn("Failed to cache {} loaded students - continuing gracefully", students.size(), e);
+        }
+    }
+
+    @Override
+    public StudentView getStudentFromCacheById(Long id) {
+        StudentView nearCached = nearCache.get(id);
+        if (nearCached != null) {
+            cacheMetrics.recordHit(ENTITY);
+            log.debug("Retrieved student from near-cache with id: {}", id);
+            return nearCached;
+        }
+        try {
+            StudentView student = readStudent(id);
             if (student != null) {
+                cacheMetrics.recordHit(ENTITY);
+                nearCache.put(student);
                 log.debug("Retrieved student from cache with id: {}", id);
+            } else {
+                cacheMetrics.recordMiss(ENTITY);
             }
             return student;
         } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("getStudentFromCacheById");
             log.warn("Failed to retrieve student from cache with id: {} - returning null", id, e);
             return null;
         }
     }
 
+    // Plain get, or an entry read that also reports late-lifespan hits to refresh-ahead
+    private StudentView readStudent(Long id) {
+        Cache<Long, StudentView> cache = infinispanConfig.getStudentCache();
+        if (!refreshAheadTracker.isEnabled()) {
+            return cache.get(id);
+        }
+        CacheEntry<Long, StudentView> entry = cache.getAdvancedCache().getCacheEntry(id);
+        if (entry == null) {
+            return null;
+        }
+        refreshAheadTracker.onRead(id, entry.getCreated(), entry.getLifespan());
+        return entry.getValue();
+    }
+
+    @Override
+    public Map<Long, StudentView> getStudentsFromCacheByIds(Collection<Long> ids) {
+        Map<Long, StudentView> found = new HashMap<>(ids.size() * 2);
+        Set<Long> remaining = new HashSet<>();
+        for (Long id : ids) {
+            StudentView nearCached = nearCache.get(id);
+            if (nearCached != null) {
+                found.put(id, nearCached);
+            } else {
+                remaining.add(id);
+            }
+        }
+        if (remaining.isEmpty()) {
+            cacheMetrics.recordLookups(ENTITY, found.size(), 0);
+            return found;
+        }
+
+        try {
+            Map<Long, StudentView> cached = infinispanConfig.getStudentCache().getAdvancedCache().getAll(remaining);
+            cached.values().forEach(nearCache::put);
+            found.putAll(cached);
+            log.debug("Retrieved {} of {} students from cache", found.size(), ids.size());
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("getStudentsFromCacheByIds");
+            log.warn("Failed to retrieve {} students from cache - returning near-cache hits only", remaining.size(), e);
+        }
+        cacheMetrics.recordLookups(ENTITY, found.size(), ids.size() - found.size());
+        return found;
+    }
+
+    // One index lookup, then the id-keyed read; an entry whose student has since changed email or left the
+    // cache is dropped and reported as a miss
+    @Override
+    public StudentView getStudentFromCacheByEmail(String email) {
+        try {
+            Long id = infinispanConfig.getStudentEmailCache().get(email);
+            StudentView student = id != null ? getStudentFromCacheById(id) : null;
+            if (student != null && email.equals(student.email())) {
+                cacheMetrics.recordHit(EMAIL);
+                log.debug("Retrieved student by email from cache with id: {}", id);
+                return student;
+            }
+            if (id != null) {
+                infinispanConfig.getStudentEmailCache().remove(email, id);
+            }
+            cacheMetrics.recordMiss(EMAIL);
+            return null;
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("getStudentFromCacheByEmail");
+            log.warn("Failed to retrieve student by email from cache - returning null", e);
+            return null;
+        }
+    }
+
     @Override
     public void removeStudentFromCache(Long id) {
+        nearCache.invalidate(id);
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            String key = STUDENT_KEY_PREFIX + id;
-            cache.remove(key);
+            unindexEmail(infinispanConfig.getStudentCache().remove(id));
             log.debug("Removed student from cache with id: {}", id);
         } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("removeStudentFromCache");
             log.warn("Failed to remove student from cache with id: {} - continuing gracefully", id, e);
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public List<Student> getAllStudentsFromCache() {
+    public void addStudentsToCache(List<Student> students) {
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            List<Student> students = (List<Student>) cache.get(ALL_STUDENTS_KEY);
-            if (students == null) {
-                log.debug("No students found in cache, returning empty list");
-                return new ArrayList<>();
+            putAllIfNewer(StudentView.of(students));
+            log.debug("Cached {} individual students", students.size());
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("addStudentsToCache");
+            log.warn("Failed to cache students with size: {} - continuing gracefully", students.size(), e);
+        }
+    }
+
+    @Override
+    public void invalidateAllStudentsCache() {
+        try {
+            infinispanConfig.getStudentPageCache().clear();
+            infinispanConfig.getMetadataCache().remove(STUDENT_MAX_ID_KEY);
+            log.debug("Invalidated all student pages");
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("invalidateAllStudentsCache");
+            log.warn("Failed to invalidate all students cache - continuing gracefully", e);
+        }
+    }
+
+    @Override
+    public void refreshStudentInCache(StudentView student) {
+        try {
+            // A single conditional write replaces the entry atomically; readers see either the old or the new value
+            putIfNewer(forLoads(infinispanConfig.getStudentCache()), student);
+            log.debug("Refreshed student in cache with id: {}", student.id());
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("refreshStudentInCache");
+            log.warn("Failed to refresh student in cache with id: {} - continuing gracefully", student.id(), e);
+        }
+    }
+
+    // ===============================================
+    // PAGED LIST METHODS
+    // ===============================================
+
+    @Override
+    public List<StudentView> getStudentPageFromCache(long pageIndex) {
+        try {
+            List<StudentView> page = infinispanConfig.getStudentPageCache().get(pageIndex);
+            if (page != null) {
+                cacheMetrics.recordHit(LIST);
+                log.debug("Retrieved student page {} with {} entries from cache", pageIndex, page.size());
+            } else {
+                cacheMetrics.recordMiss(LIST);
             }
-            log.debug("Retrieved {} students from cache", students.size());
-            return students;
+            return page;
         } catch (Exception e) {
-            log.warn("Failed to retrieve all students from cache - returning empty list", e);
-            return new ArrayList<>();
+            cacheMetrics.recordCacheFailure("getStudentPageFromCache");
+            log.warn("Failed to retrieve student page {} from cache - returning null", pageIndex, e);
+            return null;
         }
     }
 
     @Override
-    public void addStudentsToCache(List<Student> students) {
+    public void cacheStudentPage(long pageIndex, List<StudentView> students) {
+        try {
+            putAllIfNewer(forLoads(infinispanConfig.getStudentCache()), students);
+            forLoads(infinispanConfig.getStudentPageCache()).put(pageIndex, new ArrayList<>(students));
+            log.debug("Cached student page {} with {} entries", pageIndex, students.size());
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("cacheStudentPage");
+            log.warn("Failed to cache student page {} - continuing gracefully", pageIndex, e);
+        }
+    }
+
+    @Override
+    public Long getMaxStudentIdFromCache() {
+        try {
+            return (Long) infinispanConfig.getMetadataCache().get(STUDENT_MAX_ID_KEY);
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("getMaxStudentIdFromCache");
+            log.warn("Failed to retrieve max student id from cache - returning null", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void cacheMaxStudentId(Long maxId) {
+        if (maxId == null) {
+            return;
+        }
+        try {
+            forLoads(infinispanConfig.getMetadataCache()).put(STUDENT_MAX_ID_KEY, maxId);
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("cacheMaxStudentId");
+            log.warn("Failed to cache max student id - continuing gracefully", e);
+        }
+    }
+
+    @Override
+    public void invalidateStudentPage(Long studentId) {
+        try {
+            removeStudentPage(studentId);
+            log.debug("Invalidated student page {} for student id: {}", pageIndexOf(studentId), studentId);
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("invalidateStudentPage");
+            log.warn("Failed to invalidate student page for student id: {} - continuing gracefully", studentId, e);
+        }
+    }
+
+    @Override
+    public void applyStudentToPage(Student student) {
+        try {
+            applyToPages(List.of(StudentView.of(student)));
+            log.debug("Applied student id: {} to page {}", student.getId(), pageIndexOf(student.getId()));
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("applyStudentToPage");
+            log.warn("Failed to apply student id: {} to its page - invalidating it", student.getId(), e);
+            invalidateStudentPage(student.getId());
+        }
+    }
+
+    @Override
+    public void applyStudentsToPages(List<Student> students) {
+        try {
+            applyToPages(StudentView.of(students));
+            log.debug("Applied {} students to their pages", students.size());
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("applyStudentsToPages");
+            log.warn("Failed to apply {} students to their pages - invalidating them", students.size(), e);
+            students.forEach(student -> invalidateStudentPage(student.getId()));
+        }
+    }
+
+    @Override
+    public void removeStudentFromPage(Long studentId) {
+        try {
+            removeFromPage(studentId);
+            log.debug("Removed student id: {} from page {}", studentId, pageIndexOf(studentId));
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("removeStudentFromPage");
+            log.warn("Failed to remove student id: {} from its page - invalidating it", studentId, e);
+            invalidateStudentPage(studentId);
+        }
+    }
+
+    // A page reloaded before a write-behind flush holds the old row; the cached copy wins on version
+    @Override
+    public void reapplyCachedStudentToPage(Long studentId) {
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
+            StudentView cached = infinispanConfig.getStudentCache().get(studentId);
+            if (cached != null) {
+                applyToPages(List.of(cached));
+            } else {
+                removeStudentPage(studentId);
+            }
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("reapplyCachedStudentToPage");
+            log.warn("Failed to re-apply student id: {} to its page - invalidating it", studentId, e);
+            invalidateStudentPage(studentId);
+        }
+    }
+
+    @Override
+    public long pageIndexOf(Long studentId) {
+        return studentId / studentPageSize;
+    }
+
+    @Override
+    public int getStudentPageSize() {
+        return studentPageSize;
+    }
+
+    // Drops the page holding the student and extends the known id range so a newly created id stays reachable
+    private void removeStudentPage(Long studentId) {
+        infinispanConfig.getStudentPageCache().remove(pageIndexOf(studentId));
+        extendMaxStudentId(studentId);
+    }
+
+    // Merges students into their cached pages with one compute per page. Pages not in the cache are left to
+    // load on demand; a page a delta cannot be applied to is dropped and rebuilt by the next read of it.
+    // compute rather than computeIfPresent: in invalidation mode only a compute reaches the other nodes'
+    // copies when this node holds none.
+    private void applyToPages(Collection<StudentView> students) {
+        if (students.isEmpty()) {
+            return;
+        }
+        Map<Long, List<StudentView>> byPage = new HashMap<>();
+        long highestId = Long.MIN_VALUE;
+        for (StudentView student : students) {
+            byPage.computeIfAbsent(pageIndexOf(student.id()), pageIndex -> new ArrayList<>()).add(student);
+            highestId = Math.max(highestId, student.id());
+        }
+        Cache<Long, List<StudentView>> pageCache = infinispanConfig.getStudentPageCache();
+        byPage.forEach((pageIndex, changes) -> pageCache.compute(pageIndex, new MergeIntoPage(changes)));
+        extendMaxStudentId(highestId);
+    }
+
+    private void removeFromPage(Long studentId) {
+        infinispanConfig.getStudentPageCache().compute(pageIndexOf(studentId), new RemoveFromPage(studentId));
+    }
+
+    private void extendMaxStudentId(long studentId) {
+        infinispanConfig.getMetadataCache().compute(STUDENT_MAX_ID_KEY, new ExtendMaxId(studentId));
+    }
+
+    // Keeps whichever copy carries the higher version, so a late write of an older read cannot win. The
+    // near-cache and the email index take whatever the compute left in the cache.
+    private void putIfNewer(StudentView student) {
+        putIfNewer(infinispanConfig.getStudentCache(), student);
+    }
+
+    private void putIfNewer(Cache<Long, StudentView> cache, StudentView student) {
+        StudentView stored = cache.compute(student.id(), new PutIfNewer(student));
+        updateNearCache(student.id(), stored);
+        if (stored != null && stored.email() != null) {
+            emailIndex().put(stored.email(), stored.id());
+        }
+    }
+
+    private void putAllIfNewer(List<StudentView> students) {
+        putAllIfNewer(infinispanConfig.getStudentCache(), students);
+    }
 
-            // Cache individual students
-            for (Student student : students) {
-                String key = STUDENT_KEY_PREFIX + student.getId();
-                cache.put(key, student);
+    // There is no conditional putAll, so the computes are issued together and awaited once; a clustered cache
+    // overlaps their round trips instead of paying them one after another
+    private void putAllIfNewer(Cache<Long, StudentView> cache, List<StudentView> students) {
+        List<CompletableFuture<StudentView>> writes = new ArrayList<>(students.size());
+        for (StudentView student : students) {
+            writes.add(cache.computeAsync(student.id(), new PutIfNewer(student)));
+        }
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0])).join();
+        Map<String, Long> emails = new HashMap<>(students.size() * 2);
+        for (int i = 0; i < writes.size(); i++) {
+            StudentView stored = writes.get(i).join();
+            updateNearCache(students.get(i).id(), stored);
+            if (stored != null && stored.email() != null) {
+                emails.put(stored.email(), stored.id());
             }
+        }
+        if (!emails.isEmpty()) {
+            emailIndex().putAll(emails);
+        }
+    }
+
+    private void updateNearCache(Long id, StudentView stored) {
+        if (stored != null) {
+            nearCache.put(stored);
+        } else {
+            nearCache.invalidate(id);
+        }
+    }
 
-            // Cache the complete list
-            cache.put(ALL_STUDENTS_KEY, students);
-            log.debug("Cached all students with size: {}", students.size());
+    // An email a student has moved away from keeps pointing at it until it is next read, and every read checks
+    // the entry against the cached student, so index writes never invalidate other nodes' copies
+    private Cache<String, Long> emailIndex() {
+        return forLoads(infinispanConfig.getStudentEmailCache()).getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES);
+    }
+
+    private void unindexEmail(StudentView removed) {
+        if (removed != null && removed.email() != null) {
+            infinispanConfig.getStudentEmailCache().remove(removed.email(), removed.id());
+        }
+    }
+
+    // Copies read from the database are the same on every node, so in invalidation mode storing one must not
+    // drop the other nodes' copies; writes still go through the plain cache and invalidate cluster-wide
+    private <K, V> Cache<K, V> forLoads(Cache<K, V> cache) {
+        return infinispanConfig.isInvalidationMode() ? cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL) : cache;
+    }
+
+    // ===============================================
+    // NEGATIVE CACHE METHODS
+    // ===============================================
+
+    @Override
+    public boolean isStudentKnownMissing(Long id) {
+        try {
+            return recordNegativeLookup(infinispanConfig.getMissingStudentIdsCache().containsKey(id));
         } catch (Exception e) {
-            log.warn("Failed to cache students list with size: {} - continuing gracefully", students.size(), e);
+            cacheMetrics.recordCacheFailure("isStudentKnownMissing");
+            log.warn("Failed to check negative cache for student id: {} - assuming unknown", id, e);
+            return false;
         }
     }
 
     @Override
-    public void invalidateAllStudentsCache() {
+    public void markStudentMissing(Long id) {
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            cache.remove(ALL_STUDENTS_KEY);
-            log.debug("Invalidated all students cache");
+            forLoads(infinispanConfig.getMissingStudentIdsCache()).put(id, Boolean.TRUE, missingIdTtlMillis, TimeUnit.MILLISECONDS);
+            log.debug("Marked student id: {} as missing", id);
         } catch (Exception e) {
-            log.warn("Failed to invalidate all students cache - continuing gracefully", e);
+            cacheMetrics.recordCacheFailure("markStudentMissing");
+            log.warn("Failed to mark student id: {} as missing - continuing gracefully", id, e);
         }
     }
 
+    @Override
+    public boolean isEmailKnownMissing(String email) {
+        try {
+            return recordNegativeLookup(infinispanConfig.getMissingStudentEmailsCache().containsKey(email));
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("isEmailKnownMissing");
+            log.warn("Failed to check negative cache for email - assuming unknown", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void markEmailMissing(String email) {
+        try {
+            forLoads(infinispanConfig.getMissingStudentEmailsCache()).put(email, Boolean.TRUE, missingEmailTtlMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("markEmailMissing");
+            log.warn("Failed to mark email as missing - continuing gracefully", e);
+        }
+    }
+
+    @Override
+    public void clearMissingMarkers(Student student) {
+        try {
+            if (student.getId() != null) {
+                infinispanConfig.getMissingStudentIdsCache().remove(student.getId());
+            }
+            if (student.getEmail() != null) {
+                infinispanConfig.getMissingStudentEmailsCache().remove(student.getEmail());
+            }
+        } catch (Exception e) {
+            cacheMetrics.recordCacheFailure("clearMissingMarkers");
+            log.warn("Failed to clear negative cache for student id: {} - entries expire on their own", student.getId(), e);
+        }
+    }
+
+    private boolean recordNegativeLookup(boolean knownMissing) {
+        if (knownMissing) {
+            cacheMetrics.recordHit(NEGATIVE);
+        } else {
+            cacheMetrics.recordMiss(NEGATIVE);
+        }
+        return knownMissing;
+    }
+
     // ===============================================
     // STRICT METHODS (for WriteThrough and FailFast)
     // ===============================================
 
     @Override
     public void cacheStudentStrict(Student student) throws CacheException {
+        ensureCircuitClosed();
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            String key = STUDENT_KEY_PREFIX + student.getId();
-            cache.put(key, student);
+            putIfNewer(StudentView.of(student));
+            healthMonitor.recordSuccess();
             log.debug("Cached student with id: {} (strict mode)", student.getId());
         } catch (Exception e) {
+            nearCache.invalidate(student.getId());
+            healthMonitor.recordFailure();
             log.error("Failed to cache student with id: {} (strict mode)", student.getId(), e);
             throw new CacheException("Failed to cache student with id: " + student.getId(), e);
         }
@@ -148,12 +572,14 @@ public class CacheHelperImpl implements CacheHelper {
 
     @Override
     public void updateStudentInCacheStrict(Student student) throws CacheException {
+        ensureCircuitClosed();
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            String key = STUDENT_KEY_PREFIX + student.getId();
-            cache.put(key, student);
+            putIfNewer(StudentView.of(student));
+            healthMonitor.recordSuccess();
             log.debug("Updated student in cache with id: {} (strict mode)", student.getId());
         } catch (Exception e) {
+            nearCache.invalidate(student.getId());
+            healthMonitor.recordFailure();
             log.error("Failed to update student in cache with id: {} (strict mode)", student.getId(), e);
             throw new CacheException("Failed to update student in cache with id: " + student.getId(), e);
         }
@@ -161,12 +587,14 @@ public class CacheHelperImpl implements CacheHelper {
 
     @Override
     public void removeStudentFromCacheStrict(Long id) throws CacheException {
+        nearCache.invalidate(id);
+        ensureCircuitClosed();
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            String key = STUDENT_KEY_PREFIX + id;
-            cache.remove(key);
+            unindexEmail(infinispanConfig.getStudentCache().remove(id));
+            healthMonitor.recordSuccess();
             log.debug("Removed student from cache with id: {} (strict mode)", id);
         } catch (Exception e) {
+            healthMonitor.recordFailure();
             log.error("Failed to remove student from cache with id: {} (strict mode)", id, e);
             throw new CacheException("Failed to remove student from cache with id: " + id, e);
         }
@@ -174,37 +602,89 @@ public class CacheHelperImpl implements CacheHelper {
 
     @Override
     public void invalidateAllStudentsCacheStrict() throws CacheException {
+        ensureCircuitClosed();
         try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-            cache.remove(ALL_STUDENTS_KEY);
-            log.debug("Invalidated all students cache (strict mode)");
+            infinispanConfig.getStudentPageCache().clear();
+            infinispanConfig.getMetadataCache().remove(STUDENT_MAX_ID_KEY);
+            healthMonitor.recordSuccess();
+            log.debug("Invalidated all student pages (strict mode)");
         } catch (Exception e) {
+            healthMonitor.recordFailure();
             log.error("Failed to invalidate all students cache (strict mode)", e);
             throw new CacheException("Failed to invalidate all students cache", e);
         }
     }
 
+    @Override
+    public void applyStudentToPageStrict(Student student) throws CacheException {
+        ensureCircuitClosed();
+        try {
+            applyToPages(List.of(StudentView.of(student)));
+            healthMonitor.recordSuccess();
+            log.debug("Applied student id: {} to page {} (strict mode)", student.getId(), pageIndexOf(student.getId()));
+        } catch (Exception e) {
+            healthMonitor.recordFailure();
+            log.error("Failed to apply student id: {} to its page (strict mode)", student.getId(), e);
+            throw new CacheException("Failed to apply student id: " + student.getId() + " to its page", e);
+        }
+    }
+
+    @Override
+    public void removeStudentFromPageStrict(Long studentId) throws CacheException {
+        ensureCircuitClosed();
+        try {
+            removeFromPage(studentId);
+            healthMonitor.recordSuccess();
+            log.debug("Removed student id: {} from page {} (strict mode)", studentId, pageIndexOf(studentId));
+        } catch (Exception e) {
+            healthMonitor.recordFailure();
+            log.error("Failed to remove student id: {} from its page (strict mode)", studentId, e);
+            throw new CacheException("Failed to remove student id: " + studentId + " from its page", e);
+        }
+    }
+
+    @Override
+    public void addStudentsToCacheStrict(List<Student> students) throws CacheException {
+        ensureCircuitClosed();
+        try {
+            putAllIfNewer(StudentView.of(students));
+            healthMonitor.recordSuccess();
+            log.debug("Cached {} individual students (strict mode)", students.size());
+        } catch (Exception e) {
+            students.forEach(student -> nearCache.invalidate(student.getId()));
+            healthMonitor.recordFailure();
+            log.error("Failed to cache {} students (strict mode)", students.size(), e);
+            throw new CacheException("Failed to cache " + students.size() + " students", e);
+        }
+    }
+
+    @Override
+    public void applyStudentsToPagesStrict(List<Student> students) throws CacheException {
+        ensureCircuitClosed();
+        try {
+            applyToPages(StudentView.of(students));
+            healthMonitor.recordSuccess();
+            log.debug("Applied {} students to their pages (strict mode)", students.size());
+        } catch (Exception e) {
+            healthMonitor.recordFailure();
+            log.error("Failed to apply {} students to their pages (strict mode)", students.size(), e);
+            throw new CacheException("Failed to apply " + students.size() + " students to their pages", e);
+        }
+    }
+
     // ===============================================
     // UTILITY METHODS
     // ===============================================
 
     @Override
     public boolean isCacheAvailable() {
-        try {
-            Cache<String, Object> cache = infinispanConfig.getCache();
-
-            // More robust health check with actual read/write test
-            String testKey = "health_test_" + Thread.currentThread().getId() + "_" + System.currentTimeMillis();
-            cache.put(testKey, "test_value", 5, TimeUnit.SECONDS);
-            boolean exists = cache.containsKey(testKey);
-            cache.remove(testKey); // Immediate cleanup
-
-            log.debug("Cache health check completed successfully");
-            return exists;
+        // Single volatile read - the heartbeat and strict operations keep the circuit state current
+        return healthMonitor.isAvailable();
+    }
 
-        } catch (Exception e) {
-            log.error("Cache is not available: {}", e.getMessage());
-            return false;
+    private void ensureCircuitClosed() throws CacheException {
+        if (!healthMonitor.isAvailable()) {
+            throw new CacheException("Cache circuit is open - skipping cache operation");
         }
     }
 }
@@ -0,0 +1,88 @@
+package com.project.cache.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counters recorded from inside the cache helper and the read path: hits and misses per key type,
+ * database fallbacks per strategy, swallowed best-effort cache failures and async write lag.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    public static final String ENTITY = "entity";
+    public static final String LIST = "list";
+    public static final String EMAIL = "email";
+    public static final String NEGATIVE = "negative";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> lookupCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> fallbackCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+    private volatile Timer asyncLagTimer;
+
+    public void recordHit(String keyType) {
+        recordLookups(keyType, 1, 0);
+    }
+
+    public void recordMiss(String keyType) {
+        recordLookups(keyType, 0, 1);
+    }
+
+    public void recordLookups(String keyType, long hits, long misses) {
+        if (hits > 0) {
+            lookupCounter(keyType, "hit").increment(hits);
+        }
+        if (misses > 0) {
+            lookupCounter(keyType, "miss").increment(misses);
+        }
+    }
+
+    public void recordDatabaseFallback(String strategy, String operation) {
+        fallbackCounters.computeIfAbsent(strategy + ':' + operation, key -> Counter.builder("cache.db.fallback")
+                .description("Reads that fell through the cache to the database")
+                .tag("strategy", strategy)
+                .tag("operation", operation)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordCacheFailure(String method) {
+        failureCounters.computeIfAbsent(method, key -> Counter.builder("cache.helper.failures")
+                .description("Cache operations that failed and were handled gracefully")
+                .tag("method", method)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordAsyncLag(long nanos) {
+        asyncLag().record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer asyncLag() {
+        Timer timer = asyncLagTimer;
+        if (timer == null) {
+            timer = Timer.builder("cache.async.lag")
+                    .description("Time from submitting an async cache write to running it")
+                    .register(meterRegistry);
+            asyncLagTimer = timer;
+        }
+        return timer;
+    }
+
+    private Counter lookupCounter(String keyType, String result) {
+        return lookupCounters.computeIfAbsent(keyType + ':' + result, key -> Counter.builder("cache.lookups")
+                .description("Cache lookups by key type and result")
+                .tag("keyType", keyType)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.cache.metrics;
+
+import com.project.cache.strategy.CacheStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every CacheHelper method and every CacheStrategy write, and counts exceptions thrown by
+ * strategies tagged with CacheStrategy.getStrategyName().
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class CacheOperationMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // Meters are resolved once per tag combination rather than looked up in the registry per call
+    private final Map<String, Timer> helperTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> strategyTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> strategyErrorCounters = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.project.cache.helper.CacheHelper.*(..))")
+    public Object timeCacheHelper(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(helperTimer(joinPoint.getSignature().getName(), outcome));
+        }
+    }
+
+    @Around("execution(* com.project.cache.strategy.CacheStrategy.saveStudent*(..))"
+            + " || execution(* com.project.cache.strategy.CacheStrategy.updateStudent(..))"
+            + " || execution(* com.project.cache.strategy.CacheStrategy.deleteStudent(..))")
+    public Object timeStrategy(ProceedingJoinPoint joinPoint) throws Throwable {
+        String strategy = ((CacheStrategy) joinPoint.getTarget()).getStrategyName();
+        String operation = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            String cause = e.getCause() != null ? e.getCause().getClass().getSimpleName() : e.getClass().getSimpleName();
+            strategyErrorCounter(strategy, operation, cause).increment();
+            throw e;
+        } finally {
+            sample.stop(strategyTimer(strategy, operation, outcome));
+        }
+    }
+
+    private Timer strategyTimer(String strategy, String operation, String outcome) {
+        return strategyTimers.computeIfAbsent(strategy + ':' + operation + ':' + outcome, key -> Timer.builder("cache.strategy.operation")
+                .description("Latency of cache strategy writes")
+                .tag("strategy", strategy)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Counter strategyErrorCounter(String strategy, String operation, String cause) {
+        return strategyErrorCounters.computeIfAbsent(strategy + ':' + operation + ':' + cause, key -> Counter.builder("cache.strategy.errors")
+                .description("Exceptions thrown by cache strategies")
+                .tag("strategy", strategy)
+                .tag("operation", operation)
+                .tag("cause", cause)
+                .register(meterRegistry));
+    }
+
+    private Timer helperTimer(String method, String outcome) {
+        return helperTimers.computeIfAbsent(method + ':' + outcome, key -> Timer.builder("cache.helper.operation")
+                .description("Latency of CacheHelper operations")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
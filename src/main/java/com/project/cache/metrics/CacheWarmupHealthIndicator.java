@@ -0,0 +1,27 @@
+package com.project.cache.metrics;
+
+import com.project.cache.services.impl.CacheWarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE while the startup cache warm-up is below its ready threshold. Included in the
+ * readiness health group, so the instance takes no traffic until the cache is warm.
+ */
+@Component("cacheWarmup")
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = cacheWarmupService.isReady() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("progress", String.format("%.1f%%", cacheWarmupService.getProgress() * 100))
+                .withDetail("loadedStudents", cacheWarmupService.getLoadedCount())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.cache.metrics;
+
+import com.project.cache.config.InfinispanConfig;
+import com.project.cache.helper.CacheHealthMonitor;
+import com.project.cache.helper.EmailBloomFilter;
+import com.project.cache.helper.EncodedResponseCache;
+import com.project.cache.helper.KeyOrderedExecutor;
+import com.project.cache.helper.RefreshAheadTracker;
+import com.project.cache.helper.SingleFlightLoader;
+import com.project.cache.helper.StudentNearCache;
+import com.project.cache.services.impl.CacheWarmupService;
+import com.project.cache.services.impl.StudentRefreshAheadService;
+import com.project.cache.strategy.impl.WriteBehindStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.infinispan.Cache;
+import org.infinispan.remoting.rpc.RpcManagerImpl;
+import org.infinispan.stats.Stats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Infinispan's own per-cache statistics plus the state of the in-process cache layers.
+ */
+@Component
+@RequiredArgsConstructor
+public class InfinispanMetricsBinder implements MeterBinder {
+
+    private final InfinispanConfig infinispanConfig;
+    private final StudentNearCache nearCache;
+    private final EncodedResponseCache responseCache;
+    private final SingleFlightLoader singleFlightLoader;
+    private final CacheHealthMonitor healthMonitor;
+    private final KeyOrderedExecutor asyncExecutor;
+    private final RefreshAheadTracker refreshAheadTracker;
+    private final StudentRefreshAheadService refreshAheadService;
+    private final CacheWarmupService cacheWarmupService;
+    private final EmailBloomFilter emailFilter;
+    private final ObjectProvider<WriteBehindStrategy> writeBehindStrategy;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, infinispanConfig.getStudentCache());
+        bindCache(registry, infinispanConfig.getStudentPageCache());
+        bindCache(registry, infinispanConfig.getStudentEmailCache());
+        bindCache(registry, infinispanConfig.getMetadataCache());
+        bindCache(registry, infinispanConfig.getMissingStudentIdsCache());
+        bindCache(registry, infinispanConfig.getMissingStudentEmailsCache());
+
+        Gauge.builder("cache.near.size", nearCache, StudentNearCache::size).register(registry);
+        Gauge.builder("cache.near.hit.ratio", nearCache, StudentNearCache::getHitRatio).register(registry);
+        FunctionCounter.builder("cache.near.evictions", nearCache, StudentNearCache::getEvictionCount).register(registry);
+
+        Gauge.builder("cache.response.size", responseCache, EncodedResponseCache::size).register(registry);
+        FunctionCounter.builder("cache.response.reused", responseCache, EncodedResponseCache::getReusedCount).register(registry);
+        FunctionCounter.builder("cache.response.encoded", responseCache, EncodedResponseCache::getEncodedCount).register(registry);
+
+        FunctionCounter.builder("cache.single.flight.loads", singleFlightLoader, SingleFlightLoader::getLoadCount).register(registry);
+        FunctionCounter.builder("cache.single.flight.coalesced", singleFlightLoader, SingleFlightLoader::getCoalescedCount).register(registry);
+        FunctionCounter.builder("cache.single.flight.timeouts", singleFlightLoader, SingleFlightLoader::getTimeoutCount).register(registry);
+
+        Gauge.builder("cache.single.flight.in.flight", singleFlightLoader, SingleFlightLoader::getInFlightCount).register(registry);
+
+        Gauge.builder("cache.circuit.state", healthMonitor, monitor -> monitor.getState().ordinal())
+                .description("Cache circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(registry);
+
+        Gauge.builder("cache.async.queue.depth", asyncExecutor, KeyOrderedExecutor::getQueueDepth)
+                .description("Async cache writes queued and not yet started")
+                .register(registry);
+        FunctionCounter.builder("cache.async.executed", asyncExecutor, KeyOrderedExecutor::getExecutedCount).register(registry);
+        FunctionCounter.builder("cache.async.coalesced", asyncExecutor, KeyOrderedExecutor::getCoalescedCount).register(registry);
+        FunctionCounter.builder("cache.async.rejected", asyncExecutor, KeyOrderedExecutor::getRejectedCount).register(registry);
+
+        Gauge.builder("cache.refresh.ahead.pending", refreshAheadTracker, RefreshAheadTracker::getPendingCount).register(registry);
+        FunctionCounter.builder("cache.refresh.ahead.dropped", refreshAheadTracker, RefreshAheadTracker::getDroppedCount).register(registry);
+        FunctionCounter.builder("cache.refresh.ahead.refreshed", refreshAheadService, StudentRefreshAheadService::getRefreshedCount).register(registry);
+
+        Gauge.builder("cache.warmup.progress", cacheWarmupService, CacheWarmupService::getProgress)
+                .description("Fraction of the startup warm-up target loaded into the cache")
+                .register(registry);
+
+        Gauge.builder("cache.email.filter.fill.ratio", emailFilter, EmailBloomFilter::getFillRatio)
+                .description("Share of email Bloom filter bits set")
+                .register(registry);
+        Gauge.builder("cache.email.filter.fpp.expected", emailFilter, EmailBloomFilter::getExpectedFpp)
+                .description("False-positive rate implied by the email filter's fill ratio")
+                .register(registry);
+        Gauge.builder("cache.email.filter.fpp.observed", emailFilter, EmailBloomFilter::getObservedFpp)
+                .description("Share of absent emails the filter did not rule out, as confirmed by the database")
+                .register(registry);
+        FunctionCounter.builder("cache.email.filter.definite.misses", emailFilter, EmailBloomFilter::getDefiniteMissCount).register(registry);
+        FunctionCounter.builder("cache.email.filter.false.positives", emailFilter, EmailBloomFilter::getFalsePositiveCount).register(registry);
+
+        // Resolved lazily: the strategy bean is itself proxied by CacheOperationMetricsAspect
+        Gauge.builder("cache.write.behind.pending", writeBehindStrategy, provider -> provider.getObject().getPendingWrites())
+                .description("Writes queued by the Write-Behind strategy and not yet flushed")
+                .register(registry);
+        FunctionCounter.builder("cache.write.behind.dead.letters", writeBehindStrategy, provider -> provider.getObject().getDeadLetterCount())
+                .description("Write-Behind writes dropped after failing max-attempts flushes or finding their row gone")
+                .register(registry);
+    }
+
+    // Stats objects are snapshots, so every sample takes fresh ones from the cache
+    static void bindCache(MeterRegistry registry, Cache<?, ?> cache) {
+        Tags tags = Tags.of("cache", cache.getName());
+        gauge(registry, "infinispan.cache.size", tags, cache, Stats::getApproximateEntriesInMemory);
+        gauge(registry, "infinispan.cache.memory.data", tags, cache, Stats::getDataMemoryUsed);
+        gauge(registry, "infinispan.cache.memory.offheap", tags, cache, Stats::getOffHeapMemoryUsed);
+        counter(registry, "infinispan.cache.evictions", tags, cache, Stats::getEvictions);
+        counter(registry, "infinispan.cache.hits", tags, cache, Stats::getHits);
+        counter(registry, "infinispan.cache.misses", tags, cache, Stats::getMisses);
+        // Remote calls made by this node for the cache; only present in a clustered mode
+        if (cache.getAdvancedCache().getRpcManager() instanceof RpcManagerImpl rpcManager) {
+            FunctionCounter.builder("infinispan.cache.rpcs", rpcManager, RpcManagerImpl::getReplicationCount).tags(tags).register(registry);
+        }
+    }
+
+    private static void gauge(MeterRegistry registry, String name, Tags tags, Cache<?, ?> cache, ToDoubleFunction<Stats> value) {
+        Gauge.builder(name, cache, c -> value.applyAsDouble(c.getAdvancedCache().getStats())).tags(tags).register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, Tags tags, Cache<?, ?> cache, ToDoubleFunction<Stats> value) {
+        FunctionCounter.builder(name, cache, c -> value.applyAsDouble(c.getAdvancedCache().getStats())).tags(tags).register(registry);
+    }
+}
@@ -3,14 +3,20 @@ package com.project.cache.model;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
 @Entity
 @Data
 public class Student {
+    public static final String ID_SEQUENCE = "student_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence so ids are assigned without an insert and Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -19,8 +25,13 @@ public class Student {
     private String name;
     private String department;
 
+    // Optimistic-lock version, also carried into the cached copy so older writes cannot replace newer ones
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @JsonManagedReference
     @ManyToMany(mappedBy = "students", fetch = FetchType.LAZY)
     private List<Subject> subjects;
-
 }
@@ -0,0 +1,52 @@
+package com.project.cache.model.view;
+
+import com.project.cache.model.Student;
+import org.hibernate.Hibernate;
+
+import java.util.List;
+
+/**
+ * Immutable read model of a student, cached and returned by the read endpoints in place of the entity.
+ * Holds no Hibernate state, so serializing a cached copy never touches the database. Null subjects
+ * means they were not loaded (a write that left the lazy collection untouched); such a copy only
+ * updates a cached one that has them.
+ */
+public record StudentView(Long id, String email, String name, String department, Long version,
+                          List<SubjectRef> subjects) {
+
+    public StudentView {
+        subjects = subjects == null ? null : List.copyOf(subjects);
+    }
+
+    public static StudentView of(Student student) {
+        List<SubjectRef> subjects = null;
+        if (student.getSubjects() != null && Hibernate.isInitialized(student.getSubjects())) {
+            subjects = student.getSubjects().stream()
+                    .map(subject -> new SubjectRef(subject.getId(), subject.getName()))
+                    .toList();
+        }
+        return new StudentView(student.getId(), student.getEmail(), student.getName(), student.getDepartment(),
+                student.getVersion(), subjects);
+    }
+
+    public static List<StudentView> of(List<Student> students) {
+        return students.stream().map(StudentView::of).toList();
+    }
+
+    public boolean hasSubjects() {
+        return subjects != null;
+    }
+
+    public StudentView withSubjects(List<SubjectRef> subjects) {
+        return new StudentView(id, email, name, department, version, subjects);
+    }
+
+    public boolean isSameOrNewerThan(StudentView other) {
+        return isSameOrNewer(version, other.version);
+    }
+
+    // Unversioned copies are treated as current so a missing version never blocks a write
+    public static boolean isSameOrNewer(Long version, Long otherVersion) {
+        return version == null || otherVersion == null || version >= otherVersion;
+    }
+}
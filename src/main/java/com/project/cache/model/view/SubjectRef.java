@@ -0,0 +1,7 @@
+package com.project.cache.model.view;
+
+/**
+ * Subject as embedded in a StudentView - just enough to name it.
+ */
+public record SubjectRef(Long id, String name) {
+}
@@ -1,15 +1,38 @@
 package com.project.cache.repository;
 
 import com.project.cache.model.Student;
+import jakarta.persistence.LockModeType;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
-    boolean existsByEmail(String email);
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 
-    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.subjects")
-    List<Student> findAllWithSubjects();
+    // Row lock for read-modify-write, so concurrent updates queue on the row instead of failing the version check
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Student s WHERE s.id = :id")
+    Optional<Student> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT MAX(s.id) FROM Student s")
+    Long findMaxId();
+
+    // Row versions only, for checking cached copies without loading the entities
+    @Query("SELECT s.id AS id, s.version AS version FROM Student s WHERE s.id IN :ids")
+    List<IdVersion> findVersionsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.id AS id, s.version AS version FROM Student s WHERE s.id >= :fromId AND s.id < :toId ORDER BY s.id")
+    List<IdVersion> findVersionRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    interface IdVersion {
+        Long getId();
+        Long getVersion();
+    }
 }
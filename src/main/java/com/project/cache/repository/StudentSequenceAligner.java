@@ -0,0 +1,44 @@
+package com.project.cache.repository;
+
+import com.project.cache.model.Student;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves student_seq past the highest existing student id before any insert. Ids used to come from an
+ * IDENTITY column, and ddl-auto=update creates the sequence starting at 1, so without this the first
+ * pooled blocks would hand out ids that are already taken.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentSequenceAligner {
+
+    private final StudentRepository studentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void align() {
+        Long maxId = studentRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        // Costs one unused block; the pooled optimizer hands out the block ending at the value returned
+        Long next = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(Student.ID_SEQUENCE), Long.class);
+        if (next != null && next - Student.ID_ALLOCATION_SIZE >= maxId) {
+            return;
+        }
+        long restartWith = maxId + Student.ID_ALLOCATION_SIZE;
+        jdbcTemplate.execute("ALTER SEQUENCE " + Student.ID_SEQUENCE + " RESTART WITH " + restartWith);
+        log.info("Moved {} from {} to {} past the highest student id {}", Student.ID_SEQUENCE, next, restartWith, maxId);
+    }
+}
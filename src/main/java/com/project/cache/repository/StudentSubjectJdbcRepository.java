@@ -0,0 +1,46 @@
+package com.project.cache.repository;
+
+import com.project.cache.model.Student;
+import com.project.cache.model.Subject;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes student_subject rows directly. Subject owns the JPA mapping, so linking through the entities
+ * would load and rewrite every subject's full student collection.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentSubjectJdbcRepository {
+
+    private static final String INSERT_LINK_SQL = "INSERT INTO student_subject (subject_id, student_id) VALUES (?, ?)";
+    private static final String DELETE_LINKS_SQL = "DELETE FROM student_subject WHERE student_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertLinks(List<Student> students, int batchSize) {
+        List<Object[]> links = new ArrayList<>();
+        for (Student student : students) {
+            if (student.getSubjects() == null) {
+                continue;
+            }
+            for (Subject subject : student.getSubjects()) {
+                links.add(new Object[]{subject.getId(), student.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_LINK_SQL, links, batchSize,
+                (ps, link) -> {
+                    ps.setLong(1, (Long) link[0]);
+                    ps.setLong(2, (Long) link[1]);
+                });
+    }
+
+    public void replaceLinks(Student student) {
+        jdbcTemplate.update(DELETE_LINKS_SQL, student.getId());
+        insertLinks(List.of(student), Math.max(1, student.getSubjects().size()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.cache.repository;
+
+import com.project.cache.model.view.StudentView;
+import com.project.cache.model.view.SubjectRef;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Loads StudentViews straight from the tables: one joined query per call, rows folded into views
+ * without building entities, proxies or a persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentViewRepository {
+
+    private static final String SELECT_VIEWS_SQL = "SELECT st.id, st.email, st.name, st.department, st.version, "
+            + "sub.id AS subject_id, sub.name AS subject_name FROM student st "
+            + "LEFT JOIN student_subject ss ON ss.student_id = st.id "
+            + "LEFT JOIN subject sub ON sub.id = ss.subject_id ";
+    private static final String ORDER_BY_SQL = " ORDER BY st.id, sub.id";
+    private static final String SELECT_EMAILS_SQL = "SELECT email FROM student";
+    private static final int EMAIL_FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<StudentView> findById(Long id) {
+        List<StudentView> views = jdbcTemplate.query(SELECT_VIEWS_SQL + "WHERE st.id = :id" + ORDER_BY_SQL,
+                Map.of("id", id), VIEWS);
+        return views.stream().findFirst();
+    }
+
+    public Optional<StudentView> findByEmail(String email) {
+        List<StudentView> views = jdbcTemplate.query(SELECT_VIEWS_SQL + "WHERE st.email = :email" + ORDER_BY_SQL,
+                Map.of("email", email), VIEWS);
+        return views.stream().findFirst();
+    }
+
+    public List<StudentView> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_VIEWS_SQL + "WHERE st.id IN (:ids)" + ORDER_BY_SQL, Map.of("ids", ids), VIEWS);
+    }
+
+    // Ordered by id, as id-range pages are kept
+    public List<StudentView> findIdRange(long fromId, long toId) {
+        return jdbcTemplate.query(SELECT_VIEWS_SQL + "WHERE st.id >= :fromId AND st.id < :toId" + ORDER_BY_SQL,
+                Map.of("fromId", fromId, "toId", toId), VIEWS);
+    }
+
+    // Streams every email without holding the result set in memory; PostgreSQL only uses a cursor for the
+    // fetch size inside a transaction
+    public void forEachEmail(Consumer<String> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_EMAILS_SQL);
+            statement.setFetchSize(EMAIL_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+    }
+
+    // Rows arrive grouped by student id, one per subject (or one with null subject columns)
+    private static final ResultSetExtractor<List<StudentView>> VIEWS = rs -> {
+        List<StudentView> views = new ArrayList<>();
+        StudentView current = null;
+        List<SubjectRef> subjects = null;
+        while (rs.next()) {
+            long id = rs.getLong("id");
+            if (current == null || current.id() != id) {
+                if (current != null) {
+                    views.add(current.withSubjects(subjects));
+                }
+                current = new StudentView(id, rs.getString("email"), rs.getString("name"),
+                        rs.getString("department"), rs.getLong("version"), null);
+                subjects = new ArrayList<>();
+            }
+            long subjectId = rs.getLong("subject_id");
+            if (!rs.wasNull()) {
+                subjects.add(new SubjectRef(subjectId, rs.getString("subject_name")));
+            }
+        }
+        if (current != null) {
+            views.add(current.withSubjects(subjects));
+        }
+        return views;
+    };
+}
@@ -3,6 +3,8 @@ package com.project.cache.services;
 
 import com.project.cache.model.Student;
 import com.project.cache.model.dto.StudentDTO;
+import com.project.cache.model.view.StudentView;
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentService {
@@ -12,20 +14,45 @@ public interface StudentService {
      */
     Student createStudent(StudentDTO studentDTO);
 
+    /**
+     * Create many students at once, inserted and cached in batches
+     */
+    List<Student> createStudents(List<StudentDTO> studentDTOs);
+
     /**
      * Update existing student
      */
     Student updateStudent(Long id, StudentDTO dto);
 
     /**
-     * Find all students
+     * Find all students, as read models with their subjects
+     */
+    List<StudentView> findAllStudents();
+
+    /**
+     * Find all students as the cached id-range pages they are kept in, in id order
      */
-    List<Student> findAllStudents();
+    List<List<StudentView>> findAllStudentPages();
+
+    /**
+     * Find up to {@code limit} students with an id greater than {@code afterId}, ordered by id
+     */
+    List<StudentView> findStudentsPage(Long afterId, Integer limit);
 
     /**
      * Find student by ID
      */
-    Student findStudentById(Long id);
+    StudentView findStudentById(Long id);
+
+    /**
+     * Find student by email
+     */
+    StudentView findStudentByEmail(String email);
+
+    /**
+     * Find students by IDs in request order, skipping IDs that do not exist
+     */
+    List<StudentView> findStudentsByIds(Collection<Long> ids);
 
     /**
      * Delete student by ID
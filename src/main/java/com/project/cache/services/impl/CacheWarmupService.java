@@ -0,0 +1,185 @@
+package com.project.cache.services.impl;
+
+import com.project.cache.config.InfinispanConfig;
+import com.project.cache.helper.CacheHelper;
+import com.project.cache.model.view.StudentView;
+import com.project.cache.repository.StudentRepository;
+import com.project.cache.repository.StudentViewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads the student cache at startup, one id-range page per query, on a small pool of threads and at a
+ * capped row rate. Pages already restored from a persistent store are counted without a query.
+ * CacheWarmupHealthIndicator keeps the readiness probe down until ready-percent of the students that fit
+ * in the cache are loaded, or until max-wait-ms has passed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmupService {
+
+    private final StudentRepository studentRepository;
+    private final StudentViewRepository studentViewRepository;
+    private final CacheHelper cacheHelper;
+    private final InfinispanConfig infinispanConfig;
+    private final PersistentCacheVerifier persistentCacheVerifier;
+
+    @Value("${app.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.warmup.threads:4}")
+    private int threads;
+
+    @Value("${app.cache.warmup.max-rows-per-second:5000}")
+    private int maxRowsPerSecond;
+
+    @Value("${app.cache.warmup.ready-percent:80}")
+    private int readyPercent;
+
+    @Value("${app.cache.warmup.max-wait-ms:120000}")
+    private long maxWaitMillis;
+
+    private final AtomicLong loadedStudents = new AtomicLong();
+    private final AtomicLong reservedStudents = new AtomicLong();
+    private final AtomicLong nextPermitAt = new AtomicLong(System.nanoTime());
+    private volatile long targetStudents;
+    private volatile long startedAt;
+    private volatile boolean finished;
+    private ExecutorService workers;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startedAt = System.currentTimeMillis();
+        finished = false;
+        loadedStudents.set(0);
+        reservedStudents.set(0);
+        // Entries restored from a persistent store are checked before anything is counted as warm
+        persistentCacheVerifier.verify();
+        if (!enabled) {
+            finished = true;
+            return;
+        }
+        Long maxId = studentRepository.findMaxId();
+        if (maxId == null) {
+            finished = true;
+            log.info("Cache warm-up skipped - no students");
+            return;
+        }
+
+        // Warming past the cache bound would only evict what was just loaded
+        long capacity = infinispanConfig.getStudentCache().getCacheConfiguration().memory().maxCount();
+        long total = studentRepository.count();
+        targetStudents = capacity > 0 ? Math.min(total, capacity) : total;
+        long lastPage = cacheHelper.pageIndexOf(maxId);
+
+        AtomicLong nextPage = new AtomicLong();
+        AtomicInteger activeWorkers = new AtomicInteger(threads);
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.execute(() -> {
+                warmPages(nextPage, lastPage);
+                if (activeWorkers.decrementAndGet() == 0) {
+                    markFinished();
+                }
+            });
+        }
+        workers.shutdown();
+        log.info("Cache warm-up started for {} of {} students over {} threads", targetStudents, total, threads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    public boolean isReady() {
+        long started = startedAt;
+        // Not started yet: the max-wait clock has not begun either
+        if (started == 0) {
+            return false;
+        }
+        return finished
+                || getProgress() * 100 >= readyPercent
+                || System.currentTimeMillis() - started >= maxWaitMillis;
+    }
+
+    public double getProgress() {
+        long target = targetStudents;
+        return target == 0 ? (finished ? 1.0 : 0.0) : Math.min(1.0, (double) loadedStudents.get() / target);
+    }
+
+    public long getLoadedCount() {
+        return loadedStudents.get();
+    }
+
+    // Workers claim pages in id order until every page is claimed or the cache bound is reserved. A full
+    // page is reserved up front so parallel workers do not overshoot; short pages give the rest back.
+    private void warmPages(AtomicLong nextPage, long lastPage) {
+        int pageSize = cacheHelper.getStudentPageSize();
+        for (long pageIndex = nextPage.getAndIncrement(); pageIndex <= lastPage; pageIndex = nextPage.getAndIncrement()) {
+            if (Thread.currentThread().isInterrupted() || reservedStudents.addAndGet(pageSize) - pageSize >= targetStudents) {
+                break;
+            }
+            try {
+                List<StudentView> restored = cacheHelper.getStudentPageFromCache(pageIndex);
+                if (restored != null) {
+                    loadedStudents.addAndGet(restored.size());
+                    reservedStudents.addAndGet(restored.size() - pageSize);
+                    continue;
+                }
+                throttle(pageSize);
+                List<StudentView> page = studentViewRepository.findIdRange(pageIndex * pageSize, (pageIndex + 1) * pageSize);
+                cacheHelper.cacheStudentPage(pageIndex, page);
+                loadedStudents.addAndGet(page.size());
+                reservedStudents.addAndGet(page.size() - pageSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // Shutting down mid-warm-up; the cache call surfaced the interrupt
+                    break;
+                }
+                log.warn("Cache warm-up failed for page {} - it will load on first read", pageIndex, e);
+            }
+        }
+    }
+
+    private synchronized void markFinished() {
+        if (!finished) {
+            finished = true;
+            log.info("Cache warm-up finished - {} students loaded in {} ms",
+                    loadedStudents.get(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    // Spaces pages out so the combined rate of all workers stays under max-rows-per-second
+    private void throttle(int rows) throws InterruptedException {
+        long cost = TimeUnit.SECONDS.toNanos(rows) / maxRowsPerSecond;
+        long now = System.nanoTime();
+        long permitAt = nextPermitAt.accumulateAndGet(cost, (previous, add) -> Math.max(previous, now) + add) - cost;
+        long waitNanos = permitAt - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
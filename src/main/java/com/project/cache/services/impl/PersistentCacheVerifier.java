@@ -0,0 +1,99 @@
+package com.project.cache.services.impl;
+
+import com.project.cache.config.InfinispanConfig;
+import com.project.cache.helper.CacheHelper;
+import com.project.cache.model.view.StudentView;
+import com.project.cache.repository.StudentRepository;
+import com.project.cache.repository.StudentRepository.IdVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.infinispan.Cache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Checks entries restored from the persistent store against database row versions and drops any that no
+ * longer match, so a restarted node serves restored hits without serving rows changed while it was down.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PersistentCacheVerifier {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final InfinispanConfig infinispanConfig;
+    private final StudentRepository studentRepository;
+    private final CacheHelper cacheHelper;
+
+    public void verify() {
+        if (!infinispanConfig.isPersistent()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        int checkedStudents = infinispanConfig.getStudentCache().size();
+        int staleStudents = removeStaleStudents();
+        int checkedPages = infinispanConfig.getStudentPageCache().size();
+        int stalePages = removeStalePages();
+        log.info("Verified restored cache in {} ms - dropped {} of {} students and {} of {} pages",
+                System.currentTimeMillis() - startedAt, staleStudents, checkedStudents, stalePages, checkedPages);
+    }
+
+    private int removeStaleStudents() {
+        Cache<Long, StudentView> cache = infinispanConfig.getStudentCache();
+        List<Long> stale = new ArrayList<>();
+        Map<Long, Long> batch = new HashMap<>(BATCH_SIZE * 2);
+        for (Map.Entry<Long, StudentView> entry : cache.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue().version());
+            if (batch.size() == BATCH_SIZE) {
+                collectStale(batch, stale);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            collectStale(batch, stale);
+        }
+        stale.forEach(cache::remove);
+        return stale.size();
+    }
+
+    // A cached id whose row is gone or has another version is stale
+    private void collectStale(Map<Long, Long> cachedVersions, List<Long> stale) {
+        Map<Long, Long> current = new HashMap<>(cachedVersions.size() * 2);
+        for (IdVersion row : studentRepository.findVersionsByIds(cachedVersions.keySet())) {
+            current.put(row.getId(), row.getVersion());
+        }
+        cachedVersions.forEach((id, version) -> {
+            if (version == null || !version.equals(current.get(id))) {
+                stale.add(id);
+            }
+        });
+    }
+
+    // A page is current only if it holds exactly the rows of its id range at their current versions
+    private int removeStalePages() {
+        Cache<Long, List<StudentView>> cache = infinispanConfig.getStudentPageCache();
+        long pageSize = cacheHelper.getStudentPageSize();
+        List<Long> stale = new ArrayList<>();
+        for (Map.Entry<Long, List<StudentView>> entry : cache.entrySet()) {
+            long pageIndex = entry.getKey();
+            List<IdVersion> rows = studentRepository.findVersionRange(pageIndex * pageSize, (pageIndex + 1) * pageSize);
+            List<StudentView> page = entry.getValue();
+            boolean current = rows.size() == page.size();
+            for (int i = 0; current && i < rows.size(); i++) {
+                current = rows.get(i).getId().equals(page.get(i).id())
+                        && Objects.equals(rows.get(i).getVersion(), page.get(i).version());
+            }
+            if (!current) {
+                stale.add(pageIndex);
+            }
+        }
+        stale.forEach(cache::remove);
+        return stale.size();
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.cache.services.impl;
+
+import com.project.cache.helper.CacheHelper;
+import com.project.cache.helper.RefreshAheadTracker;
+import com.project.cache.model.view.StudentView;
+import com.project.cache.repository.StudentViewRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reloads students picked up by RefreshAheadTracker and swaps them into the cache, so hot entries
+ * never expire on the request path. Refreshes are capped at max-per-second.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentRefreshAheadService {
+
+    private static final long TICK_MILLIS = 100;
+
+    private final RefreshAheadTracker refreshAheadTracker;
+    private final StudentViewRepository studentViewRepository;
+    private final CacheHelper cacheHelper;
+
+    @Value("${app.cache.refresh-ahead.max-per-second:50}")
+    private int maxRefreshesPerSecond;
+
+    private final LongAdder refreshed = new LongAdder();
+    private ScheduledExecutorService refresher;
+    // Refreshes earned but not yet spent, in thousandths so rates below one per tick are kept exactly.
+    // Only touched by the refresher thread.
+    private long milliCredits;
+
+    @PostConstruct
+    public void start() {
+        if (!refreshAheadTracker.isEnabled()) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-ahead");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshPending, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        log.info("Refresh-ahead started with limit of {} refreshes per second", maxRefreshesPerSecond);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private void refreshPending() {
+        // Token bucket: a backlog never leaves more than one unspent refresh, so capping at a tick's worth
+        // plus one keeps the configured rate while stopping idle ticks from adding up to a burst
+        long perTick = maxRefreshesPerSecond * TICK_MILLIS;
+        milliCredits = Math.min(milliCredits + perTick, perTick + 1000);
+        List<Long> ids = refreshAheadTracker.poll((int) (milliCredits / 1000));
+        milliCredits -= ids.size() * 1000L;
+        for (Long id : ids) {
+            try {
+                Optional<StudentView> student = studentViewRepository.findById(id);
+                if (student.isPresent()) {
+                    cacheHelper.refreshStudentInCache(student.get());
+                    refreshed.increment();
+                } else {
+                    cacheHelper.removeStudentFromCache(id);
+                }
+            } catch (Exception e) {
+                log.warn("Refresh-ahead failed for student id: {} - entry will expire normally", id, e);
+            }
+        }
+    }
+
+    public long getRefreshedCount() {
+        return refreshed.sum();
+    }
+}
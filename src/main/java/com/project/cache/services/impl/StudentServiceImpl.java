@@ -1,30 +1,61 @@
 package com.project.cache.services.impl;
 
 import com.project.cache.helper.CacheHelper;
+import com.project.cache.helper.EmailBloomFilter;
+import com.project.cache.helper.SingleFlightLoader;
+import com.project.cache.helper.SubjectCatalog;
+import com.project.cache.metrics.CacheMetrics;
 import com.project.cache.model.Student;
 import com.project.cache.model.Subject;
 import com.project.cache.model.dto.StudentDTO;
+import com.project.cache.model.view.StudentView;
 import com.project.cache.repository.StudentRepository;
-import com.project.cache.repository.SubjectRepository;
+import com.project.cache.repository.StudentSubjectJdbcRepository;
+import com.project.cache.repository.StudentViewRepository;
 import com.project.cache.services.StudentService;
 import com.project.cache.strategy.CacheStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.project.cache.helper.Constants.STUDENT_MAX_ID_KEY;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StudentServiceImpl implements StudentService {
 
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+    private static final int MAX_PAGE_LIMIT = 1000;
+
     private final StudentRepository studentRepository;
-    private final SubjectRepository subjectRepository;
+    private final StudentViewRepository studentViewRepository;
+    private final SubjectCatalog subjectCatalog;
     private final CacheHelper cacheHelper;
+    private final StudentSubjectJdbcRepository studentSubjectJdbcRepository;
+    private final SingleFlightLoader singleFlightLoader;
+    private final EmailBloomFilter emailFilter;
+    private final CacheMetrics cacheMetrics;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.students.bulk.batch-size:50}")
+    private int bulkBatchSize;
 
     @Lazy
     private final CacheStrategy primaryCacheStrategy; // Injected bean from configuration
@@ -35,32 +66,91 @@ public class StudentServiceImpl implements StudentService {
         log.info("Creating student with email: {} using strategy: {}",
                 studentDTO.getEmail(), primaryCacheStrategy.getStrategyName());
 
-        if (studentRepository.existsByEmail(studentDTO.getEmail())) {
+        if (isEmailTaken(studentDTO.getEmail())) {
             throw new IllegalArgumentException("Student with email " + studentDTO.getEmail() + " already exists");
         }
 
         Student student = buildStudentFromDTO(studentDTO);
 
         Student savedStudent = primaryCacheStrategy.saveStudent(student);
+        emailFilter.add(savedStudent.getEmail());
+        // Subject owns the join table, so links are written directly instead of through each subject's students
+        if (!savedStudent.getSubjects().isEmpty()) {
+            studentRepository.flush();
+            studentSubjectJdbcRepository.insertLinks(List.of(savedStudent), bulkBatchSize);
+        }
 
         log.info("Student created successfully with ID: {} using strategy: {}",
                 savedStudent.getId(), primaryCacheStrategy.getStrategyName());
         return savedStudent;
     }
 
+    @Override
+    @Transactional
+    public List<Student> createStudents(List<StudentDTO> studentDTOs) {
+        log.info("Creating {} students in bulk using strategy: {}",
+                studentDTOs.size(), primaryCacheStrategy.getStrategyName());
+
+        // Validate all emails with one query, limited to those the email filter cannot rule out
+        Set<String> emails = new HashSet<>();
+        for (StudentDTO dto : studentDTOs) {
+            if (!emails.add(dto.getEmail())) {
+                throw new IllegalArgumentException("Duplicate email " + dto.getEmail() + " in request");
+            }
+        }
+        List<String> candidates = emails.stream().filter(emailFilter::mightContain).toList();
+        List<String> existing = candidates.isEmpty() ? List.of() : studentRepository.findExistingEmails(candidates);
+        if (!existing.isEmpty()) {
+            throw new IllegalArgumentException("Students with emails " + existing + " already exist");
+        }
+
+        // Resolve every referenced subject once
+        Map<Long, Subject> subjectsById = new HashMap<>();
+        Set<Long> subjectIds = new HashSet<>();
+        studentDTOs.stream().filter(dto -> dto.getSubjectIds() != null).forEach(dto -> subjectIds.addAll(dto.getSubjectIds()));
+        subjectCatalog.resolve(subjectIds).forEach(subject -> subjectsById.put(subject.getId(), subject));
+
+        List<Student> created = new ArrayList<>(studentDTOs.size());
+        for (int from = 0; from < studentDTOs.size(); from += bulkBatchSize) {
+            List<Student> batch = new ArrayList<>(bulkBatchSize);
+            for (StudentDTO dto : studentDTOs.subList(from, Math.min(from + bulkBatchSize, studentDTOs.size()))) {
+                batch.add(buildStudentForBulk(dto, subjectsById));
+            }
+
+            // One batched insert per batch; strict strategies publish the whole import to the cache once it commits
+            List<Student> saved = primaryCacheStrategy.saveStudents(batch);
+            studentRepository.flush();
+            studentSubjectJdbcRepository.insertLinks(saved, bulkBatchSize);
+            created.addAll(saved);
+
+            // Keep the persistence context from growing across the whole import
+            entityManager.clear();
+        }
+
+        emailFilter.addAll(emails);
+
+        log.info("Created {} students in bulk using strategy: {}", created.size(), primaryCacheStrategy.getStrategyName());
+        return created;
+    }
+
     @Override
     @Transactional
     public Student updateStudent(Long id, StudentDTO dto) {
         log.debug("Updating student with id: {} using strategy: {}", id, primaryCacheStrategy.getStrategyName());
 
-        Student student = studentRepository.findById(id)
+        Student student = studentRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
+        // The DTO's fields are applied over the latest accepted state, which may not have reached the row yet
+        primaryCacheStrategy.applyPendingWrites(student);
 
         // Update fields with validation
         updateStudentFields(student, dto);
 
         // Execute using configured strategy
         Student updatedStudent = primaryCacheStrategy.updateStudent(student);
+        if (dto.getSubjectIds() != null && !primaryCacheStrategy.persistsSubjectLinks()) {
+            studentSubjectJdbcRepository.replaceLinks(updatedStudent);
+        }
 
         log.debug("Student updated successfully with id: {} using strategy: {}",
                 id, primaryCacheStrategy.getStrategyName());
@@ -69,38 +159,95 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Student> findAllStudents() {
-        // Read operations use cache-aside pattern
-        try {
-            List<Student> cached = cacheHelper.getAllStudentsFromCache();
-            if (cached != null && !cached.isEmpty()) {
-                log.debug("Retrieved {} students from cache", cached.size());
-                return cached;
-            }
-        } catch (Exception e) {
-            log.warn("Failed to retrieve students from cache", e);
+    public List<StudentView> findAllStudents() {
+        List<StudentView> students = new ArrayList<>();
+        findAllStudentPages().forEach(students::addAll);
+        return students;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<List<StudentView>> findAllStudentPages() {
+        List<List<StudentView>> pages = new ArrayList<>();
+        Long maxId = resolveMaxStudentId();
+        if (maxId == null) {
+            return pages;
         }
 
-        // Fetch from database
-        List<Student> students = studentRepository.findAllWithSubjects();
+        // Assemble the full list from the cached id-range pages; only missing pages hit the database
+        long lastPage = cacheHelper.pageIndexOf(maxId);
+        for (long pageIndex = 0; pageIndex <= lastPage; pageIndex++) {
+            pages.add(loadStudentPage(pageIndex));
+        }
 
-        // Cache the result (best-effort)
-        try {
-            cacheHelper.addStudentsToCache(students);
-        } catch (Exception e) {
-            log.warn("Failed to cache students list", e);
+        log.debug("Retrieved {} student pages", pages.size());
+        return pages;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentView> findStudentsPage(Long afterId, Integer limit) {
+        long cursor = afterId == null ? 0L : afterId;
+        int size = limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+
+        List<StudentView> students = new ArrayList<>(size);
+        Long maxId = resolveMaxStudentId();
+        if (maxId == null || cursor >= maxId) {
+            return students;
         }
 
-        log.debug("Retrieved {} students from database", students.size());
+        long lastPage = cacheHelper.pageIndexOf(maxId);
+        for (long pageIndex = cacheHelper.pageIndexOf(cursor + 1); pageIndex <= lastPage; pageIndex++) {
+            for (StudentView student : loadStudentPage(pageIndex)) {
+                if (student.id() > cursor) {
+                    students.add(student);
+                    if (students.size() == size) {
+                        return students;
+                    }
+                }
+            }
+        }
+
+        log.debug("Retrieved {} students after id: {}", students.size(), cursor);
         return students;
     }
 
+    private Long resolveMaxStudentId() {
+        Long maxId = cacheHelper.getMaxStudentIdFromCache();
+        if (maxId != null) {
+            return maxId;
+        }
+        return singleFlightLoader.load("studentsMaxId", STUDENT_MAX_ID_KEY, () -> {
+            recordDatabaseFallback("findMaxStudentId");
+            Long loaded = studentRepository.findMaxId();
+            cacheHelper.cacheMaxStudentId(loaded);
+            return loaded;
+        });
+    }
+
+    private List<StudentView> loadStudentPage(long pageIndex) {
+        List<StudentView> page = cacheHelper.getStudentPageFromCache(pageIndex);
+        if (page != null) {
+            return page;
+        }
+
+        return singleFlightLoader.load("studentPage", pageIndex, () -> {
+            recordDatabaseFallback("findStudentPage");
+            long pageSize = cacheHelper.getStudentPageSize();
+            List<StudentView> loaded = withoutPendingDeletes(
+                    studentViewRepository.findIdRange(pageIndex * pageSize, (pageIndex + 1) * pageSize));
+            cacheHelper.cacheStudentPage(pageIndex, loaded);
+            log.debug("Loaded student page {} with {} entries from database", pageIndex, loaded.size());
+            return loaded;
+        });
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Student findStudentById(Long id) {
+    public StudentView findStudentById(Long id) {
         // Read operations use cache-aside pattern
         try {
-            Student student = cacheHelper.getStudentFromCacheById(id);
+            StudentView student = cacheHelper.getStudentFromCacheById(id);
             if (student != null) {
                 log.debug("Retrieved student from cache with id: {}", id);
                 return student;
@@ -109,27 +256,86 @@ public class StudentServiceImpl implements StudentService {
             log.warn("Failed to retrieve student from cache with id: {}", id, e);
         }
 
-        // Fetch from database
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found"));
+        // Ids recently confirmed absent are answered from the negative cache
+        if (cacheHelper.isStudentKnownMissing(id)) {
+            throw new RuntimeException("Student not found");
+        }
 
-        // Cache the result (best-effort)
-        try {
-            cacheHelper.updateStudentInCache(student);
-        } catch (Exception e) {
-            log.warn("Failed to cache student with id: {}", id, e);
+        // Fetch from database - concurrent misses for the same id share one query, which also loads the subjects
+        StudentView student = singleFlightLoader.load("student", id, () -> {
+            recordDatabaseFallback("findStudentById");
+            StudentView loaded = studentViewRepository.findById(id).orElse(null);
+            if (loaded == null) {
+                cacheHelper.markStudentMissing(id);
+            } else if (primaryCacheStrategy.isDeletePending(id)) {
+                return null;
+            }
+
+            // Cache the result (best-effort)
+            if (loaded != null) {
+                try {
+                    cacheHelper.cacheLoadedStudent(loaded);
+                } catch (Exception e) {
+                    log.warn("Failed to cache student with id: {}", id, e);
+                }
+            }
+            return loaded;
+        });
+
+        if (student == null) {
+            throw new RuntimeException("Student not found");
         }
+        return student;
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public StudentView findStudentByEmail(String email) {
+        StudentView student = lookupStudentByEmail(email);
+        if (student == null) {
+            throw new RuntimeException("Student not found");
+        }
         return student;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentView> findStudentsByIds(Collection<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+
+        // One multi-key lookup against the cache
+        Map<Long, StudentView> found = new HashMap<>(cacheHelper.getStudentsFromCacheByIds(distinctIds));
+
+        // One query for whatever the cache did not have
+        List<Long> missing = distinctIds.stream()
+                .filter(id -> !found.containsKey(id) && !cacheHelper.isStudentKnownMissing(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            recordDatabaseFallback("findStudentsByIds");
+            List<StudentView> loaded = withoutPendingDeletes(studentViewRepository.findAllById(missing));
+            loaded.forEach(student -> found.put(student.id(), student));
+            cacheHelper.cacheLoadedStudents(loaded);
+            missing.stream().filter(id -> !found.containsKey(id)).forEach(cacheHelper::markStudentMissing);
+            log.debug("Loaded {} of {} missing students from database", loaded.size(), missing.size());
+        }
+
+        List<StudentView> students = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            StudentView student = found.get(id);
+            if (student != null) {
+                students.add(student);
+            }
+        }
+        return students;
+    }
+
     @Override
     @Transactional
     public void deleteStudent(Long id) {
         log.info("Deleting student with id: {} using strategy: {}", id, primaryCacheStrategy.getStrategyName());
 
         // Verify student exists
-        if (!studentRepository.existsById(id)) {
+        if (!studentRepository.existsById(id) || primaryCacheStrategy.isDeletePending(id)) {
             throw new RuntimeException("Student not found");
         }
 
@@ -140,28 +346,69 @@ public class StudentServiceImpl implements StudentService {
                 id, primaryCacheStrategy.getStrategyName());
     }
 
+    // Answered from the email index or the negative cache where possible; the unique constraint still guards
+    // the write against a student created or renamed since
+    private boolean isEmailTaken(String email) {
+        return lookupStudentByEmail(email) != null;
+    }
+
+    // An email the filter rules out was never stored; any other index miss is settled with one query, whose
+    // result is cached either way: the student (which indexes its email) or a negative entry for the email
+    private StudentView lookupStudentByEmail(String email) {
+        StudentView cached = cacheHelper.getStudentFromCacheByEmail(email);
+        if (cached != null) {
+            return cached;
+        }
+        if (!emailFilter.mightContain(email) || cacheHelper.isEmailKnownMissing(email)) {
+            return null;
+        }
+        return singleFlightLoader.load("studentEmail", email, () -> {
+            recordDatabaseFallback("findStudentByEmail");
+            StudentView loaded = studentViewRepository.findByEmail(email).orElse(null);
+            if (loaded == null) {
+                emailFilter.recordFalsePositive();
+                cacheHelper.markEmailMissing(email);
+            } else if (primaryCacheStrategy.isDeletePending(loaded.id())) {
+                return null;
+            } else {
+                cacheHelper.cacheLoadedStudent(loaded);
+            }
+            return loaded;
+        });
+    }
+
+    // Rows whose delete is accepted but not yet flushed are already gone for readers
+    private List<StudentView> withoutPendingDeletes(List<StudentView> students) {
+        return students.stream().filter(student -> !primaryCacheStrategy.isDeletePending(student.id())).toList();
+    }
+
+    private void recordDatabaseFallback(String operation) {
+        cacheMetrics.recordDatabaseFallback(primaryCacheStrategy.getStrategyName(), operation);
+    }
+
     private Student buildStudentFromDTO(StudentDTO dto) {
         Student student = new Student();
         student.setEmail(dto.getEmail());
         student.setName(dto.getName());
         student.setDepartment(dto.getDepartment());
+        // An empty list rather than null, so the cached copy reads as "no subjects" instead of "not loaded".
+        // Subjects come from the catalog; their student_subject rows are written once the student is saved
+        student.setSubjects(subjectCatalog.resolve(dto.getSubjectIds()));
+        return student;
+    }
 
-        // Handle subjects
-        if (dto.getSubjectIds() != null && !dto.getSubjectIds().isEmpty()) {
-            List<Subject> subjects = subjectRepository.findAllById(dto.getSubjectIds());
-            if (subjects.size() != dto.getSubjectIds().size()) {
-                throw new IllegalArgumentException("Some subject IDs are invalid");
-            }
+    // Subjects are linked via student_subject rows after insert, so the owning Subject side is left untouched
+    private Student buildStudentForBulk(StudentDTO dto, Map<Long, Subject> subjectsById) {
+        Student student = new Student();
+        student.setEmail(dto.getEmail());
+        student.setName(dto.getName());
+        student.setDepartment(dto.getDepartment());
 
-            student.setSubjects(subjects);
-            for (Subject subject : subjects) {
-                if (subject.getStudents() == null) {
-                    subject.setStudents(new ArrayList<>());
-                }
-                subject.getStudents().add(student);
-            }
+        List<Subject> subjects = new ArrayList<>();
+        if (dto.getSubjectIds() != null) {
+            new LinkedHashSet<>(dto.getSubjectIds()).forEach(subjectId -> subjects.add(subjectsById.get(subjectId)));
         }
-
+        student.setSubjects(subjects);
         return student;
     }
 
@@ -173,10 +420,11 @@ public class StudentServiceImpl implements StudentService {
         // Email validation
         if (dto.getEmail() != null) {
             if (!dto.getEmail().equals(student.getEmail())) {
-                if (studentRepository.existsByEmail(dto.getEmail())) {
+                if (isEmailTaken(dto.getEmail())) {
                     throw new IllegalArgumentException("Email '" + dto.getEmail() + "' is already in use");
                 }
                 student.setEmail(dto.getEmail());
+                emailFilter.add(dto.getEmail());
             }
         }
 
@@ -184,21 +432,10 @@ public class StudentServiceImpl implements StudentService {
             student.setDepartment(dto.getDepartment());
         }
 
-        // Handle subject updates
+        // Handle subject updates; the student_subject rows are replaced after the strategy has run, unless the
+        // strategy persists them itself
         if (dto.getSubjectIds() != null) {
-            // Clear existing relationships
-            for (Subject subject : student.getSubjects()) {
-                subject.getStudents().remove(student);
-            }
-
-            List<Subject> subjects = subjectRepository.findAllById(dto.getSubjectIds());
-            student.setSubjects(subjects);
-
-            for (Subject subject : subjects) {
-                if (!subject.getStudents().contains(student)) {
-                    subject.getStudents().add(student);
-                }
-            }
+            student.setSubjects(subjectCatalog.resolve(dto.getSubjectIds()));
         }
     }
 }
@@ -1,18 +1,23 @@
 package com.project.cache.services.impl;
 
+import com.project.cache.helper.SubjectCatalog;
 import com.project.cache.model.Subject;
 import com.project.cache.model.dto.SubjectDTO;
 import com.project.cache.repository.SubjectRepository;
 import com.project.cache.services.SubjectServiceI;
+import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+@Service
 public class SubjectServiceImpl implements SubjectServiceI {
 
     private final SubjectRepository subjectRepository;
+    private final SubjectCatalog subjectCatalog;
 
-    public SubjectServiceImpl(SubjectRepository subjectRepository) {
+    public SubjectServiceImpl(SubjectRepository subjectRepository, SubjectCatalog subjectCatalog) {
         this.subjectRepository = subjectRepository;
+        this.subjectCatalog = subjectCatalog;
     }
 
     public Subject createSubject(SubjectDTO dto) {
@@ -20,10 +25,13 @@ public class SubjectServiceImpl implements SubjectServiceI {
         subject.setName(dto.getName());
         subject.setChapters(dto.getChapters());
 
-        return subjectRepository.save(subject);
+        Subject saved = subjectRepository.save(subject);
+        subjectCatalog.add(saved);
+        return saved;
     }
 
+    // Served from the catalog snapshot, without a query
     public List<Subject> findAll() {
-        return subjectRepository.findAll();
+        return subjectCatalog.findAll();
     }
 }
@@ -2,6 +2,8 @@ package com.project.cache.strategy;
 
 import com.project.cache.model.Student;
 
+import java.util.List;
+
 public interface CacheStrategy {
 
     /**
@@ -9,16 +11,41 @@ public interface CacheStrategy {
      */
     Student saveStudent(Student student);
 
+    /**
+     * Save a batch of new students with the specific caching strategy (one cache putAll and list invalidation per batch)
+     */
+    List<Student> saveStudents(List<Student> students);
+
     /**
      * Update student with the specific caching strategy
      */
     Student updateStudent(Student student);
 
+    /**
+     * Bring a student just loaded for update up to date with writes the strategy accepted but has not persisted yet
+     */
+    default void applyPendingWrites(Student student) {
+    }
+
+    /**
+     * Whether updateStudent persists the student's subject links itself, e.g. queued with the row
+     */
+    default boolean persistsSubjectLinks() {
+        return false;
+    }
+
     /**
      * Delete student with the specific caching strategy
      */
     void deleteStudent(Long studentId);
 
+    /**
+     * Whether a delete of the student was accepted but its row may still be in the database, so reads must not load it
+     */
+    default boolean isDeletePending(Long studentId) {
+        return false;
+    }
+
     /**
      * Get strategy name for identification
      */
@@ -28,5 +55,11 @@ public interface CacheStrategy {
      * Check if strategy is available (cache is working)
      */
     boolean isStrategyAvailable();
+
+    /**
+     * Called once the strategy is selected as the primary one, to start any background work it needs
+     */
+    default void activate() {
+    }
 }
 
@@ -1,37 +1,38 @@
 package com.project.cache.strategy;
 
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 @Component
 public class CacheStrategyFactory {
 
-    private final Map<String, CacheStrategy> strategies;
+    // Looked up by name on demand: injecting every CacheStrategy bean would also pull in primaryCacheStrategy,
+    // which is itself resolved through this factory
+    private final ListableBeanFactory beanFactory;
 
     @Autowired
-    public CacheStrategyFactory(Map<String, CacheStrategy> strategies) {
-        this.strategies = strategies;
+    public CacheStrategyFactory(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
     }
 
     public CacheStrategy getStrategy(String strategyName) {
-        CacheStrategy strategy = strategies.get(strategyName + "Strategy");
-        if (strategy == null) {
+        String beanName = strategyName + "Strategy";
+        if (!beanFactory.containsBean(beanName)) {
             throw new IllegalArgumentException("Unknown cache strategy: " + strategyName);
         }
-        return strategy;
+        return beanFactory.getBean(beanName, CacheStrategy.class);
     }
 
     //Save to database first, then try to cache (if cache fails, log warning and continue - fault-tolerant).
     public CacheStrategy getCacheAsideStrategy() {return getStrategy("cacheAside"); }
 
-    //Save to database and cache within same transaction - if either fails, both rollback (strict consistency).
+    //Save to database, then publish to cache once the transaction commits - nothing is cached for a rolled back write (strict consistency).
     public CacheStrategy getWriteThroughStrategy() {
         return getStrategy("writeThrough");
     }
 
-    //Pre-check cache availability, then save to database and cache within transaction - fail immediately if cache unavailable (proactive validation).
+    //Pre-check cache availability, then save to database and publish to cache after commit - fail immediately if cache unavailable (proactive validation).
     public CacheStrategy getFailFastStrategy() {
         return getStrategy("failFast");
     }
@@ -40,4 +41,9 @@ public class CacheStrategyFactory {
     public CacheStrategy getAsyncCacheStrategy() {
         return getStrategy("asyncCache");
     }
+
+    //Write to cache and acknowledge, then flush coalesced updates/deletes to the database in JDBC batches (write-behind).
+    public CacheStrategy getWriteBehindStrategy() {
+        return getStrategy("writeBehind");
+    }
 }
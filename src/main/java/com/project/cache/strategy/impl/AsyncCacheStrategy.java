@@ -2,15 +2,15 @@
 package com.project.cache.strategy.impl;
 
 import com.project.cache.helper.CacheHelper;
+import com.project.cache.helper.KeyOrderedExecutor;
 import com.project.cache.model.Student;
 import com.project.cache.repository.StudentRepository;
 import com.project.cache.strategy.CacheStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
 
 @Component("asyncCacheStrategy")
 @RequiredArgsConstructor
@@ -19,21 +19,35 @@ public class AsyncCacheStrategy implements CacheStrategy {
 
     private final StudentRepository studentRepository;
     private final CacheHelper cacheHelper;
+    private final KeyOrderedExecutor asyncExecutor;
 
     @Override
     public Student saveStudent(Student student) {
         // 1. Save to database first
         Student savedStudent = studentRepository.save(student);
 
-        // 2. Asynchronous cache operations
+        // 2. Negative entries are cleared synchronously so the new student is visible right away
+        cacheHelper.clearMissingMarkers(savedStudent);
+
+        // 3. Asynchronous cache operations
         performAsyncCacheOperations(savedStudent, "save");
 
         return savedStudent;
     }
 
+    @Override
+    public List<Student> saveStudents(List<Student> students) {
+        List<Student> savedStudents = studentRepository.saveAll(students);
+        savedStudents.forEach(cacheHelper::clearMissingMarkers);
+        performAsyncBatchCacheOperations(savedStudents);
+        return savedStudents;
+    }
+
     @Override
     public Student updateStudent(Student student) {
-        Student updatedStudent = studentRepository.save(student);
+        // Flushed so the cached copy carries the incremented version
+        Student updatedStudent = studentRepository.saveAndFlush(student);
+        cacheHelper.clearMissingMarkers(updatedStudent);
         performAsyncCacheOperations(updatedStudent, "update");
         return updatedStudent;
     }
@@ -44,30 +58,36 @@ public class AsyncCacheStrategy implements CacheStrategy {
         performAsyncCacheDeletion(studentId);
     }
 
-    @Async
-    public void performAsyncCacheOperations(Student student, String operation) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                cacheHelper.cacheStudent(student);
-                cacheHelper.invalidateAllStudentsCache();
-                log.debug("Async cache {} completed for student ID: {}", operation, student.getId());
-            } catch (Exception e) {
-                log.warn("Async cache {} failed for student ID: {}", operation, student.getId(), e);
-            }
-        });
+    // Runs after earlier writes for the same student; a still-queued earlier write is replaced by this one
+    private void performAsyncCacheOperations(Student student, String operation) {
+        asyncExecutor.execute(student.getId(), () -> {
+            cacheHelper.cacheStudent(student);
+            cacheHelper.applyStudentToPage(student);
+            log.debug("Async cache {} completed for student ID: {}", operation, student.getId());
+        }, () -> evictOnOverflow(student.getId()));
+    }
+
+    private void performAsyncBatchCacheOperations(List<Student> students) {
+        asyncExecutor.executeAll(students, Student::getId, batch -> {
+            cacheHelper.addStudentsToCache(batch);
+            cacheHelper.applyStudentsToPages(batch);
+            log.debug("Async cache batch save completed for {} students", batch.size());
+        }, batch -> batch.forEach(student -> evictOnOverflow(student.getId())));
+    }
+
+    private void performAsyncCacheDeletion(Long studentId) {
+        asyncExecutor.execute(studentId, () -> {
+            cacheHelper.removeStudentFromCache(studentId);
+            cacheHelper.removeStudentFromPage(studentId);
+            log.debug("Async cache deletion completed for student ID: {}", studentId);
+        }, () -> evictOnOverflow(studentId));
     }
 
-    @Async
-    public void performAsyncCacheDeletion(Long studentId) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                cacheHelper.removeStudentFromCache(studentId);
-                cacheHelper.invalidateAllStudentsCache();
-                log.debug("Async cache deletion completed for student ID: {}", studentId);
-            } catch (Exception e) {
-                log.warn("Async cache deletion failed for student ID: {}", studentId, e);
-            }
-        });
+    // Queue full - drop the cached copy on the caller thread so readers fall back to the database
+    private void evictOnOverflow(Long studentId) {
+        log.warn("Async cache queue full - evicting student ID: {} instead of updating it", studentId);
+        cacheHelper.removeStudentFromCache(studentId);
+        cacheHelper.invalidateStudentPage(studentId);
     }
 
     @Override
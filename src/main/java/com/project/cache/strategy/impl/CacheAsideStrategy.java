@@ -9,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component("cacheAsideStrategy")
 @RequiredArgsConstructor
 @Slf4j
@@ -25,7 +27,8 @@ public class CacheAsideStrategy implements CacheStrategy {
         // 2. Cache operations (best-effort, non-blocking)
         try {
             cacheHelper.cacheStudent(savedStudent);
-            cacheHelper.invalidateAllStudentsCache();
+            cacheHelper.clearMissingMarkers(savedStudent);
+            cacheHelper.applyStudentToPage(savedStudent);
             log.debug("Student cached successfully using Cache-Aside strategy");
         } catch (Exception e) {
             log.warn("Cache operation failed for student ID: {} - continuing without cache",
@@ -35,13 +38,31 @@ public class CacheAsideStrategy implements CacheStrategy {
         return savedStudent;
     }
 
+    @Override
+    public List<Student> saveStudents(List<Student> students) {
+        List<Student> savedStudents = studentRepository.saveAll(students);
+
+        try {
+            cacheHelper.addStudentsToCache(savedStudents);
+            savedStudents.forEach(cacheHelper::clearMissingMarkers);
+            cacheHelper.applyStudentsToPages(savedStudents);
+        } catch (Exception e) {
+            log.warn("Cache operation failed for batch of {} students - continuing without cache",
+                    savedStudents.size(), e);
+        }
+
+        return savedStudents;
+    }
+
     @Override
     public Student updateStudent(Student student) {
-        Student updatedStudent = studentRepository.save(student);
+        // Flushed so the cached copy carries the incremented version
+        Student updatedStudent = studentRepository.saveAndFlush(student);
 
         try {
             cacheHelper.cacheStudent(updatedStudent);
-            cacheHelper.invalidateAllStudentsCache();
+            cacheHelper.clearMissingMarkers(updatedStudent);
+            cacheHelper.applyStudentToPage(updatedStudent);
         } catch (Exception e) {
             log.warn("Cache update failed for student ID: {}", updatedStudent.getId(), e);
         }
@@ -55,7 +76,7 @@ public class CacheAsideStrategy implements CacheStrategy {
 
         try {
             cacheHelper.removeStudentFromCache(studentId);
-            cacheHelper.invalidateAllStudentsCache();
+            cacheHelper.removeStudentFromPage(studentId);
         } catch (Exception e) {
             log.warn("Cache deletion failed for student ID: {}", studentId, e);
         }
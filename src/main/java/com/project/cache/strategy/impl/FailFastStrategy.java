@@ -1,8 +1,8 @@
 // strategy/impl/FailFastStrategy.java
 package com.project.cache.strategy.impl;
 
-import com.project.cache.exception.CacheException;
 import com.project.cache.helper.CacheHelper;
+import com.project.cache.helper.TransactionalCachePublisher;
 import com.project.cache.model.Student;
 import com.project.cache.repository.StudentRepository;
 import com.project.cache.strategy.CacheStrategy;
@@ -11,6 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component("failFastStrategy")
 @RequiredArgsConstructor
 @Slf4j
@@ -18,13 +20,14 @@ public class FailFastStrategy implements CacheStrategy {
 
     private final StudentRepository studentRepository;
     private final CacheHelper cacheHelper;
+    private final TransactionalCachePublisher cachePublisher;
 
     @Override
     @Transactional
     public Student saveStudent(Student student) {
         log.debug("Saving student using Fail-Fast strategy");
 
-        // Pre-check cache availability before any operations
+        // Pre-check cache availability before any operations (circuit breaker state, no cache round trip)
         if (!isStrategyAvailable()) {
             log.error("Cache is not available - Fail-Fast strategy cannot proceed for student: {}", student.getEmail());
             throw new RuntimeException("Cache is not available - Fail-Fast strategy cannot proceed");
@@ -35,27 +38,44 @@ public class FailFastStrategy implements CacheStrategy {
             Student savedStudent = studentRepository.save(student);
             log.debug("Student saved to database with ID: {}", savedStudent.getId());
 
-            // 2. Cache operations must succeed using strict methods
-            cacheHelper.cacheStudentStrict(savedStudent);
-            log.debug("Student cached successfully with ID: {}", savedStudent.getId());
-
-            // 3. Invalidate list cache
-            cacheHelper.invalidateAllStudentsCacheStrict();
-            log.debug("All students cache invalidated successfully");
+            // 2. Stage the cache entry and list page change; published once the transaction commits
+            cachePublisher.publishSaved(savedStudent);
 
             log.info("Student saved successfully using Fail-Fast strategy with ID: {}", savedStudent.getId());
             return savedStudent;
 
-        } catch (CacheException e) {
-            log.error("Fail-Fast strategy failed due to cache error - transaction will rollback for student: {}",
-                    student.getEmail(), e);
-            throw new RuntimeException("Fail-Fast strategy failed: Cache operation error", e);
         } catch (Exception e) {
             log.error("Fail-Fast strategy failed for student: {}", student.getEmail(), e);
             throw new RuntimeException("Fail-Fast strategy failed: Database operation error", e);
         }
     }
 
+    @Override
+    @Transactional
+    public List<Student> saveStudents(List<Student> students) {
+        log.debug("Saving {} students using Fail-Fast strategy", students.size());
+
+        if (!isStrategyAvailable()) {
+            log.error("Cache is not available - Fail-Fast strategy cannot proceed for batch of {} students", students.size());
+            throw new RuntimeException("Cache is not available - Fail-Fast strategy cannot proceed");
+        }
+
+        try {
+            // 1. Save batch to database (within transaction, not committed yet)
+            List<Student> savedStudents = studentRepository.saveAll(students);
+
+            // 2. Stage the cache entries and list page changes; published as one batch once the transaction commits
+            cachePublisher.publishSaved(savedStudents);
+
+            log.info("Saved {} students using Fail-Fast strategy", savedStudents.size());
+            return savedStudents;
+
+        } catch (Exception e) {
+            log.error("Fail-Fast strategy failed for batch of {} students", students.size(), e);
+            throw new RuntimeException("Fail-Fast strategy failed: Database operation error", e);
+        }
+    }
+
     @Override
     @Transactional
     public Student updateStudent(Student student) {
@@ -68,25 +88,16 @@ public class FailFastStrategy implements CacheStrategy {
         }
 
         try {
-            // 1. Update in database (within transaction)
-            Student updatedStudent = studentRepository.save(student);
+            // 1. Update in database (within transaction), flushed so the cached copy carries the new version
+            Student updatedStudent = studentRepository.saveAndFlush(student);
             log.debug("Student updated in database with ID: {}", updatedStudent.getId());
 
-            // 2. Cache operations must succeed
-            cacheHelper.updateStudentInCacheStrict(updatedStudent);
-            log.debug("Student updated in cache with ID: {}", updatedStudent.getId());
-
-            // 3. Invalidate list cache
-            cacheHelper.invalidateAllStudentsCacheStrict();
-            log.debug("All students cache invalidated successfully");
+            // 2. Stage the cache entry and list page change; published once the transaction commits
+            cachePublisher.publishSaved(updatedStudent);
 
             log.info("Student updated successfully using Fail-Fast strategy with ID: {}", updatedStudent.getId());
             return updatedStudent;
 
-        } catch (CacheException e) {
-            log.error("Fail-Fast strategy failed during update due to cache error - transaction will rollback for student ID: {}",
-                    student.getId(), e);
-            throw new RuntimeException("Fail-Fast strategy failed: Cache operation error", e);
         } catch (Exception e) {
             log.error("Fail-Fast strategy failed during update for student ID: {}", student.getId(), e);
             throw new RuntimeException("Fail-Fast strategy failed: Database operation error", e);
@@ -109,20 +120,11 @@ public class FailFastStrategy implements CacheStrategy {
             studentRepository.deleteById(studentId);
             log.debug("Student deleted from database with ID: {}", studentId);
 
-            // 2. Remove from cache - must succeed
-            cacheHelper.removeStudentFromCacheStrict(studentId);
-            log.debug("Student removed from cache with ID: {}", studentId);
-
-            // 3. Invalidate list cache
-            cacheHelper.invalidateAllStudentsCacheStrict();
-            log.debug("All students cache invalidated successfully");
+            // 2. Stage the cache and list page removal; published once the transaction commits
+            cachePublisher.publishDeleted(studentId);
 
             log.info("Student deleted successfully using Fail-Fast strategy with ID: {}", studentId);
 
-        } catch (CacheException e) {
-            log.error("Fail-Fast strategy failed during deletion due to cache error - transaction will rollback for student ID: {}",
-                    studentId, e);
-            throw new RuntimeException("Fail-Fast strategy failed: Cache operation error", e);
         } catch (Exception e) {
             log.error("Fail-Fast strategy failed during deletion for student ID: {}", studentId, e);
             throw new RuntimeException("Fail-Fast strategy failed: Database operation error", e);
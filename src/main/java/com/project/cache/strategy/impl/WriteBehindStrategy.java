@@ -0,0 +1,474 @@
+// strategy/impl/WriteBehindStrategy.java
+package com.project.cache.strategy.impl;
+
+import com.project.cache.config.InfinispanConfig;
+import com.project.cache.exception.CacheException;
+import com.project.cache.helper.CacheHelper;
+import com.project.cache.helper.EmailBloomFilter;
+import com.project.cache.helper.SubjectCatalog;
+import com.project.cache.model.Student;
+import com.project.cache.model.Subject;
+import com.project.cache.model.view.StudentView;
+import com.project.cache.repository.StudentRepository;
+import com.project.cache.strategy.CacheStrategy;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component("writeBehindStrategy")
+@RequiredArgsConstructor
+@Slf4j
+public class WriteBehindStrategy implements CacheStrategy {
+
+    private static final String UPDATE_STUDENT_SQL = "UPDATE student SET email = ?, name = ?, department = ?, version = ? WHERE id = ?";
+    private static final String DELETE_STUDENT_SQL = "DELETE FROM student WHERE id = ?";
+    private static final String DELETE_STUDENT_SUBJECTS_SQL = "DELETE FROM student_subject WHERE student_id = ?";
+    private static final String INSERT_STUDENT_SUBJECT_SQL = "INSERT INTO student_subject (subject_id, student_id) VALUES (?, ?)";
+
+    private final StudentRepository studentRepository;
+    private final CacheHelper cacheHelper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InfinispanConfig infinispanConfig;
+    private final EmailBloomFilter emailFilter;
+    private final SubjectCatalog subjectCatalog;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.cache.write-behind.queue-size:10000}")
+    private int queueSize;
+
+    @Value("${app.cache.write-behind.flush-interval-ms:500}")
+    private long flushIntervalMillis;
+
+    @Value("${app.cache.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.cache.write-behind.offer-timeout-ms:1000}")
+    private long offerTimeoutMillis;
+
+    @Value("${app.cache.write-behind.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.cache.write-behind.drain-timeout-ms:10000}")
+    private long drainTimeoutMillis;
+
+    // Dirty students keyed by id - a newer write for the same id replaces the pending one
+    private final Map<Long, PendingWrite> dirty = new ConcurrentHashMap<>();
+    // Failed flush attempts per student id, reset once a write for it reaches the database
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private final LongAdder deadLetters = new LongAdder();
+    private Semaphore capacity;
+    private ScheduledExecutorService flusher;
+
+    // Only the selected strategy flushes; the bean exists whichever strategy is configured
+    @Override
+    public synchronized void activate() {
+        if (flusher != null) {
+            return;
+        }
+        capacity = new Semaphore(queueSize);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        infinispanConfig.registerShutdownHook("write-behind drain", this::drain);
+    }
+
+    @PreDestroy
+    public void stop() {
+        drain();
+    }
+
+    @Override
+    public Student saveStudent(Student student) {
+        // Creates go to the database synchronously so a duplicate email fails the request instead of a
+        // queued insert that was already acknowledged
+        Student savedStudent = studentRepository.save(student);
+
+        try {
+            cacheHelper.cacheStudentStrict(savedStudent);
+            cacheHelper.clearMissingMarkers(savedStudent);
+            cacheHelper.applyStudentToPageStrict(savedStudent);
+        } catch (CacheException e) {
+            log.warn("Write-Behind cache population failed for new student ID: {}", savedStudent.getId(), e);
+        }
+        return savedStudent;
+    }
+
+    @Override
+    public List<Student> saveStudents(List<Student> students) {
+        List<Student> savedStudents = studentRepository.saveAll(students);
+
+        try {
+            cacheHelper.addStudentsToCacheStrict(savedStudents);
+            savedStudents.forEach(cacheHelper::clearMissingMarkers);
+            cacheHelper.applyStudentsToPagesStrict(savedStudents);
+        } catch (CacheException e) {
+            log.warn("Write-Behind cache population failed for batch of {} new students", savedStudents.size(), e);
+        }
+        return savedStudents;
+    }
+
+    @Override
+    public Student updateStudent(Student student) {
+        // The row stays in the database until a queued delete is flushed, but the student is already gone
+        rejectIfDeletePending(student.getId());
+
+        // The database row lags behind queued writes, so the next version continues from the cached one
+        student.setVersion(nextVersion(student));
+        PendingWrite write = PendingWrite.upsert(student);
+
+        // Only a copy with its subjects is cached, and until the flush the cache is the only current copy
+        Hibernate.initialize(student.getSubjects());
+
+        try {
+            // 1. Cache becomes the source of truth until the flush
+            cacheHelper.updateStudentInCacheStrict(student);
+            cacheHelper.clearMissingMarkers(student);
+            cacheHelper.applyStudentToPageStrict(student);
+        } catch (CacheException e) {
+            log.error("Write-Behind strategy failed to cache update for student ID: {}", student.getId(), e);
+            throw new RuntimeException("Failed to update student with Write-Behind strategy: Cache operation failed", e);
+        }
+
+        // 2. Drop pending JPA changes so the request transaction does not write; the flusher persists them
+        entityManager.clear();
+
+        // 3. Acknowledge once queued
+        enqueue(write);
+        return student;
+    }
+
+    // A partial update loaded from the row would otherwise write the row's stale fields back over the queued ones
+    @Override
+    public void applyPendingWrites(Student student) {
+        rejectIfDeletePending(student.getId());
+        PendingWrite pending = dirty.get(student.getId());
+        if (pending == null) {
+            return;
+        }
+        student.setEmail(pending.email());
+        student.setName(pending.name());
+        student.setDepartment(pending.department());
+        if (pending.subjectIds() != null) {
+            student.setSubjects(subjectCatalog.resolve(pending.subjectIds()));
+        }
+    }
+
+    // Subject changes are queued with the row and written by the flusher
+    @Override
+    public boolean persistsSubjectLinks() {
+        return true;
+    }
+
+    @Override
+    public void deleteStudent(Long studentId) {
+        try {
+            cacheHelper.removeStudentFromCacheStrict(studentId);
+            cacheHelper.removeStudentFromPageStrict(studentId);
+        } catch (CacheException e) {
+            log.error("Write-Behind strategy failed to remove student ID: {} from cache", studentId, e);
+            throw new RuntimeException("Failed to delete student with Write-Behind strategy: Cache operation failed", e);
+        }
+        enqueue(PendingWrite.delete(studentId));
+    }
+
+    private long nextVersion(Student student) {
+        long version = student.getVersion() != null ? student.getVersion() : 0L;
+        StudentView cached = cacheHelper.getStudentFromCacheById(student.getId());
+        if (cached != null && cached.version() != null) {
+            version = Math.max(version, cached.version());
+        }
+        PendingWrite pending = dirty.get(student.getId());
+        if (pending != null && pending.version() != null) {
+            version = Math.max(version, pending.version());
+        }
+        return version + 1;
+    }
+
+    @Override
+    public boolean isDeletePending(Long studentId) {
+        PendingWrite pending = dirty.get(studentId);
+        return pending != null && pending.deleted();
+    }
+
+    private void rejectIfDeletePending(Long studentId) {
+        if (isDeletePending(studentId)) {
+            throw new RuntimeException("Student not found");
+        }
+    }
+
+    private void enqueue(PendingWrite write) {
+        PendingWrite merged = dirty.computeIfPresent(write.id(), (id, pending) -> write.coalesce(pending));
+        if (merged != null) {
+            rejectIfDeleteWon(write, merged);
+            log.debug("Coalesced pending write for student ID: {}", write.id());
+            return;
+        }
+
+        // Backpressure: wait for the flusher to free a slot, then reject the write
+        try {
+            if (!capacity.tryAcquire(offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Write-Behind queue is full - rejected write for student ID: " + write.id());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while queueing write for student ID: " + write.id(), e);
+        }
+
+        // Another writer may have queued the same id while this one waited for a slot
+        boolean[] coalesced = {false};
+        PendingWrite queued = dirty.compute(write.id(), (id, pending) -> {
+            if (pending == null) {
+                return write;
+            }
+            coalesced[0] = true;
+            return write.coalesce(pending);
+        });
+        if (coalesced[0]) {
+            capacity.release();
+            rejectIfDeleteWon(write, queued);
+        }
+    }
+
+    // A delete queued after the pre-check swallowed this update, which has already reached the cache
+    private void rejectIfDeleteWon(PendingWrite write, PendingWrite queued) {
+        if (!write.deleted() && queued.deleted()) {
+            cacheHelper.removeStudentFromCache(write.id());
+            cacheHelper.removeStudentFromPage(write.id());
+            throw new RuntimeException("Student not found");
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Write-Behind flush failed - {} writes will be retried", dirty.size(), e);
+        }
+    }
+
+    private synchronized void flush() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        for (PendingWrite write : dirty.values()) {
+            batch.add(write);
+            if (batch.size() == batchSize) {
+                flushBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushBatch(batch);
+        }
+    }
+
+    // One transaction per batch; if it fails, each write is retried on its own so one bad row cannot hold back
+    // the rest of the queue
+    private void flushBatch(List<PendingWrite> batch) {
+        List<PendingWrite> missing;
+        try {
+            missing = writeRows(batch);
+        } catch (Exception e) {
+            log.warn("Write-Behind batch of {} failed - retrying writes one by one", batch.size(), e);
+            batch.forEach(this::flushOne);
+            return;
+        }
+        completed(batch, missing);
+        log.debug("Write-Behind flushed {} students", batch.size());
+    }
+
+    private void flushOne(PendingWrite write) {
+        try {
+            completed(List.of(write), writeRows(List.of(write)));
+        } catch (Exception e) {
+            int attempts = failedAttempts.merge(write.id(), 1, Integer::sum);
+            if (attempts >= maxAttempts) {
+                deadLetter(write, "failed " + attempts + " flushes", e);
+            } else {
+                log.warn("Write-Behind write for student ID: {} failed (attempt {} of {})", write.id(), attempts, maxAttempts, e);
+            }
+        }
+    }
+
+    // Writes the batch in one transaction and returns the updates whose row no longer exists
+    private List<PendingWrite> writeRows(List<PendingWrite> batch) {
+        List<Object[]> updates = new ArrayList<>();
+        List<PendingWrite> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> subjectResets = new ArrayList<>();
+        List<Object[]> subjectLinks = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+
+        for (PendingWrite write : batch) {
+            if (write.deleted()) {
+                subjectResets.add(new Object[]{write.id()});
+                deletes.add(new Object[]{write.id()});
+                continue;
+            }
+            updates.add(new Object[]{write.email(), write.name(), write.department(), write.version(), write.id()});
+            upserts.add(write);
+            emails.add(write.email());
+            if (write.subjectIds() != null) {
+                subjectResets.add(new Object[]{write.id()});
+                for (Long subjectId : write.subjectIds()) {
+                    subjectLinks.add(new Object[]{subjectId, write.id()});
+                }
+            }
+        }
+
+        List<PendingWrite> missing = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(DELETE_STUDENT_SUBJECTS_SQL, subjectResets);
+            jdbcTemplate.batchUpdate(INSERT_STUDENT_SUBJECT_SQL, subjectLinks);
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_STUDENT_SQL, updates);
+            jdbcTemplate.batchUpdate(DELETE_STUDENT_SQL, deletes);
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    missing.add(upserts.get(i));
+                }
+            }
+        });
+        // A filter rebuilt while these were queued streamed the old rows
+        emailFilter.addAll(emails);
+        return missing;
+    }
+
+    private void completed(List<PendingWrite> batch, List<PendingWrite> missing) {
+        for (PendingWrite write : batch) {
+            if (missing.contains(write)) {
+                deadLetter(write, "row no longer exists", null);
+                continue;
+            }
+            failedAttempts.remove(write.id());
+            // Writes superseded during the flush stay dirty for the next round
+            if (dirty.remove(write.id(), write)) {
+                capacity.release();
+            }
+            // A read racing the delete or a page reloaded before the flush holds the old row, so the cached
+            // copy is re-applied to it or, for a delete, evicted again
+            if (write.deleted()) {
+                cacheHelper.removeStudentFromCache(write.id());
+                cacheHelper.removeStudentFromPage(write.id());
+            } else {
+                cacheHelper.reapplyCachedStudentToPage(write.id());
+            }
+        }
+    }
+
+    // Drops a write that will never reach the database, and the cached copy that only it backed
+    private void deadLetter(PendingWrite write, String reason, Exception cause) {
+        failedAttempts.remove(write.id());
+        deadLetters.increment();
+        log.error("Write-Behind dropped write {} - {}", write, reason, cause);
+        if (dirty.remove(write.id(), write)) {
+            capacity.release();
+            cacheHelper.removeStudentFromCache(write.id());
+            cacheHelper.invalidateStudentPage(write.id());
+        }
+    }
+
+    // Flushes until the queue is empty or drain-timeout-ms has passed. A failing write is dropped after
+    // max-attempts rounds, so only a database that stays unreachable makes the drain give up
+    public void drain() {
+        if (flusher != null && !flusher.isShutdown()) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(flushIntervalMillis * 2, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+        log.info("Draining {} pending Write-Behind writes", dirty.size());
+        long deadline = System.currentTimeMillis() + drainTimeoutMillis;
+        flushSafely();
+        while (!dirty.isEmpty() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(Math.min(flushIntervalMillis, Math.max(1, deadline - System.currentTimeMillis())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flushSafely();
+        }
+        if (!dirty.isEmpty()) {
+            log.error("Write-Behind drain gave up with {} writes still pending - they are lost", dirty.size());
+        }
+    }
+
+    public int getPendingWrites() {
+        return dirty.size();
+    }
+
+    public long getDeadLetterCount() {
+        return deadLetters.sum();
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "WRITE_BEHIND";
+    }
+
+    // Pending writes are only visible through a shared cache; in invalidation mode other nodes would reload the
+    // not-yet-flushed rows from the database, so the strategy is unavailable there and cache-aside is used
+    @Override
+    public boolean isStrategyAvailable() {
+        return cacheHelper.isCacheAvailable() && !infinispanConfig.isInvalidationMode();
+    }
+
+    private record PendingWrite(Long id, String email, String name, String department, Long version,
+                                List<Long> subjectIds, boolean deleted) {
+
+        static PendingWrite upsert(Student student) {
+            // An uninitialized lazy collection means the subjects were not touched
+            List<Long> subjectIds = null;
+            if (student.getSubjects() != null && Hibernate.isInitialized(student.getSubjects())) {
+                subjectIds = student.getSubjects().stream().map(Subject::getId).toList();
+            }
+            return new PendingWrite(student.getId(), student.getEmail(), student.getName(),
+                    student.getDepartment(), student.getVersion(), subjectIds, false);
+        }
+
+        static PendingWrite delete(Long id) {
+            return new PendingWrite(id, null, null, null, null, null, true);
+        }
+
+        // Collapses this write over a pending one for the same id field by field, so a field this write does
+        // not carry (such as untouched subjects) keeps the pending value; a delete wins either way
+        PendingWrite coalesce(PendingWrite pending) {
+            if (pending.deleted() || deleted) {
+                return pending.deleted() ? pending : this;
+            }
+            return new PendingWrite(id,
+                    email != null ? email : pending.email(),
+                    name != null ? name : pending.name(),
+                    department != null ? department : pending.department(),
+                    version == null || (pending.version() != null && pending.version() > version) ? pending.version() : version,
+                    subjectIds != null ? subjectIds : pending.subjectIds(),
+                    false);
+        }
+    }
+}
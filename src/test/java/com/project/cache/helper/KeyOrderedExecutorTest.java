@@ -0,0 +1,132 @@
+package com.project.cache.helper;
+
+import com.project.cache.config.InfinispanConfig;
+import com.project.cache.metrics.CacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KeyOrderedExecutorTest {
+
+    private KeyOrderedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.drain();
+    }
+
+    @Test
+    void runsTasksForOneKeyInSubmissionOrder() throws InterruptedException {
+        start(2, 100, 1000);
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+        CountDownLatch last = new CountDownLatch(1);
+
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            executor.execute(1L, () -> {
+                ran.add(value);
+                if (value == 999) {
+                    last.countDown();
+                }
+            }, () -> ran.add(-1));
+        }
+
+        assertThat(last.await(5, TimeUnit.SECONDS)).isTrue();
+        // Waiting tasks may be superseded, but none runs after a later one and the last always runs
+        assertThat(ran).isSorted().doesNotContain(-1).endsWith(999);
+        assertThat(executor.getExecutedCount() + executor.getCoalescedCount()).isEqualTo(1000);
+    }
+
+    @Test
+    void waitingTaskIsSupersededByLaterOneForSameKey() throws InterruptedException {
+        start(1, 10, 1000);
+        CountDownLatch release = blockWorker();
+        List<String> ran = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(1L, () -> ran.add("a"), () -> ran.add("overflow a"));
+        executor.execute(1L, () -> ran.add("b"), () -> ran.add("overflow b"));
+        executor.execute(1L, () -> {
+            ran.add("c");
+            done.countDown();
+        }, () -> ran.add("overflow c"));
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsExactly("c");
+        assertThat(executor.getCoalescedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void fullQueueOverflowsTheNewestWaitingTaskForTheKey() throws InterruptedException {
+        start(1, 1, 500);
+        CountDownLatch release = blockWorker();
+        executor.execute(2L, () -> { }, () -> { });
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        // The queue is full, so this offer waits; a later write for the key supersedes it meanwhile
+        Thread first = new Thread(() -> executor.execute(1L, () -> ran.add("a"), () -> ran.add("overflow a")));
+        first.start();
+        Thread.sleep(100);
+        executor.execute(1L, () -> ran.add("b"), () -> ran.add("overflow b"));
+        first.join();
+
+        assertThat(ran).containsExactly("overflow b");
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        // Nothing is left pending for the key, so the next write gets its own runner
+        release.countDown();
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(1L, () -> {
+            ran.add("c");
+            done.countDown();
+        }, () -> ran.add("overflow c"));
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsExactly("overflow b", "c");
+    }
+
+    @Test
+    void writesAfterDrainGoToOverflow() {
+        start(1, 10, 100);
+        executor.drain();
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        executor.execute(1L, () -> ran.add("a"), () -> ran.add("overflow a"));
+        executor.executeAll(List.of(2L, 3L), id -> id, ids -> ran.add("batch " + ids), ids -> ran.add("overflow " + ids));
+
+        assertThat(ran).containsExactly("overflow a", "overflow [2, 3]");
+    }
+
+    private void start(int threads, int queueCapacity, long offerTimeoutMillis) {
+        executor = new KeyOrderedExecutor(mock(InfinispanConfig.class), new CacheMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(executor, "threads", threads);
+        ReflectionTestUtils.setField(executor, "queueCapacity", queueCapacity * threads);
+        ReflectionTestUtils.setField(executor, "offerTimeoutMillis", offerTimeoutMillis);
+        executor.start();
+    }
+
+    // Occupies the single stripe's worker until the returned latch is released
+    private CountDownLatch blockWorker() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(99L, () -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, () -> { });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+}
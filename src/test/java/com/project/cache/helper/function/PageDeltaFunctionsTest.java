@@ -0,0 +1,76 @@
+package com.project.cache.helper.function;
+
+import com.project.cache.model.view.StudentView;
+import com.project.cache.model.view.SubjectRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageDeltaFunctionsTest {
+
+    private static final List<SubjectRef> MATH = List.of(new SubjectRef(1L, "Math"));
+
+    @Test
+    void mergeReplacesAndInsertsInIdOrder() {
+        List<StudentView> page = List.of(student(1, "a", 1), student(3, "c", 1));
+
+        List<StudentView> merged = new MergeIntoPage(List.of(student(3, "c2", 2), student(2, "b", 1))).apply(0L, page);
+
+        assertThat(merged).extracting(StudentView::id).containsExactly(1L, 2L, 3L);
+        assertThat(merged.get(2).name()).isEqualTo("c2");
+        assertThat(page).extracting(StudentView::name).containsExactly("a", "c");
+    }
+
+    @Test
+    void mergeKeepsNewerEntryAndCachedSubjects() {
+        List<StudentView> page = List.of(student(1, "a", 5));
+
+        assertThat(new MergeIntoPage(List.of(student(1, "old", 4))).apply(0L, page))
+                .extracting(StudentView::name).containsExactly("a");
+        assertThat(new MergeIntoPage(List.of(student(1, "new", 6).withSubjects(null))).apply(0L, page))
+                .singleElement()
+                .satisfies(merged -> {
+                    assertThat(merged.name()).isEqualTo("new");
+                    assertThat(merged.subjects()).isEqualTo(MATH);
+                });
+    }
+
+    @Test
+    void mergeDropsPageForNewEntryWithoutSubjectsAndLeavesAbsentPageAbsent() {
+        List<StudentView> page = List.of(student(1, "a", 1));
+
+        assertThat(new MergeIntoPage(List.of(student(2, "b", 1).withSubjects(null))).apply(0L, page)).isNull();
+        assertThat(new MergeIntoPage(List.of(student(2, "b", 1))).apply(0L, null)).isNull();
+    }
+
+    @Test
+    void removeDropsOnlyTheStudent() {
+        List<StudentView> page = List.of(student(1, "a", 1), student(2, "b", 1));
+
+        assertThat(new RemoveFromPage(1L).apply(0L, page)).extracting(StudentView::id).containsExactly(2L);
+        assertThat(new RemoveFromPage(9L).apply(0L, page)).isSameAs(page);
+        assertThat(new RemoveFromPage(1L).apply(0L, null)).isNull();
+    }
+
+    @Test
+    void extendMaxIdOnlyRaisesAPresentMax() {
+        assertThat(new ExtendMaxId(10L).apply("max", 5L)).isEqualTo(10L);
+        assertThat(new ExtendMaxId(3L).apply("max", 5L)).isEqualTo(5L);
+        assertThat(new ExtendMaxId(10L).apply("max", null)).isNull();
+    }
+
+    @Test
+    void putIfNewerNeverReplacesANewerCopy() {
+        StudentView cached = student(1, "a", 5);
+
+        assertThat(new PutIfNewer(student(1, "old", 4)).apply(1L, cached)).isSameAs(cached);
+        assertThat(new PutIfNewer(student(1, "new", 6).withSubjects(null)).apply(1L, cached).subjects()).isEqualTo(MATH);
+        assertThat(new PutIfNewer(student(1, "new", 6).withSubjects(null)).apply(1L, null)).isNull();
+    }
+
+    private static StudentView student(long id, String name, long version) {
+        return new StudentView(id, name + "@test.local", name, "Science", version, MATH);
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.cache.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InfinispanMetricsBinderTest {
+
+    private DefaultCacheManager cacheManager;
+    private Cache<Long, String> cache;
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new DefaultCacheManager(new GlobalConfigurationBuilder().nonClusteredDefault().build());
+        cacheManager.defineConfiguration("metricsTest", new ConfigurationBuilder()
+                .statistics().enable()
+                .memory().maxCount(100)
+                .build());
+        cache = cacheManager.getCache("metricsTest");
+        registry = new SimpleMeterRegistry();
+        InfinispanMetricsBinder.bindCache(registry, cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.stop();
+    }
+
+    @Test
+    void metersFollowCacheActivityAfterBinding() {
+        assertThat(counter("infinispan.cache.hits")).isZero();
+        assertThat(gauge("infinispan.cache.size")).isZero();
+
+        cache.put(1L, "one");
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(gauge("infinispan.cache.size")).isEqualTo(1);
+        assertThat(counter("infinispan.cache.hits")).isEqualTo(2);
+        assertThat(counter("infinispan.cache.misses")).isEqualTo(1);
+    }
+
+    private double counter(String name) {
+        return registry.get(name).tag("cache", "metricsTest").functionCounter().count();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag("cache", "metricsTest").gauge().value();
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.cache.strategy.impl;
+
+import com.project.cache.model.Student;
+import com.project.cache.model.dto.StudentDTO;
+import com.project.cache.model.view.StudentView;
+import com.project.cache.repository.StudentViewRepository;
+import com.project.cache.services.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:write-behind-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "app.cache.strategy=writeBehind",
+        // Nothing is flushed until the test drains the queue
+        "app.cache.write-behind.flush-interval-ms=600000"
+})
+@DirtiesContext
+class WriteBehindStrategyTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentViewRepository studentViewRepository;
+
+    @Autowired
+    @Qualifier("writeBehindStrategy")
+    private WriteBehindStrategy writeBehindStrategy;
+
+    @Test
+    void partialUpdatesCoalescedBeforeFlushKeepEveryField() {
+        Student student = studentService.createStudent(StudentDTO.builder()
+                .email("partial@test.local").name("B").department("OLD").build());
+
+        studentService.updateStudent(student.getId(), StudentDTO.builder().name("A").build());
+        studentService.updateStudent(student.getId(), StudentDTO.builder().department("NEWDEPT").build());
+
+        assertThat(writeBehindStrategy.getPendingWrites()).isEqualTo(1);
+        StudentView cached = studentService.findStudentById(student.getId());
+        assertThat(cached.name()).isEqualTo("A");
+        assertThat(cached.department()).isEqualTo("NEWDEPT");
+        assertThat(studentViewRepository.findById(student.getId())).get()
+                .extracting(StudentView::name).isEqualTo("B");
+
+        writeBehindStrategy.drain();
+
+        assertThat(writeBehindStrategy.getPendingWrites()).isZero();
+        StudentView flushed = studentViewRepository.findById(student.getId()).orElseThrow();
+        assertThat(flushed.name()).isEqualTo("A");
+        assertThat(flushed.department()).isEqualTo("NEWDEPT");
+        assertThat(flushed.email()).isEqualTo("partial@test.local");
+        assertThat(flushed.version()).isEqualTo(cached.version());
+    }
+
+    @Test
+    void readsDoNotLoadStudentWithPendingDelete() {
+        Student student = studentService.createStudent(StudentDTO.builder()
+                .email("deleted@test.local").name("Gone").department("OLD").build());
+
+        studentService.deleteStudent(student.getId());
+
+        // The row is still in the database until the flush
+        assertThat(studentViewRepository.findById(student.getId())).isPresent();
+        assertThatThrownBy(() -> studentService.findStudentById(student.getId())).hasMessage("Student not found");
+        assertThatThrownBy(() -> studentService.findStudentByEmail("deleted@test.local")).hasMessage("Student not found");
+        assertThat(studentService.findStudentsByIds(List.of(student.getId()))).isEmpty();
+        assertThat(studentService.findAllStudents()).extracting(StudentView::id).doesNotContain(student.getId());
+
+        writeBehindStrategy.drain();
+
+        assertThat(studentViewRepository.findById(student.getId())).isEmpty();
+        assertThatThrownBy(() -> studentService.findStudentById(student.getId())).hasMessage("Student not found");
+    }
+}